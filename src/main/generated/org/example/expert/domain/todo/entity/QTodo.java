@@ -24,6 +24,8 @@ public class QTodo extends EntityPathBase<Todo> {
 
     public final org.example.expert.domain.common.entity.QTimestamped _super = new org.example.expert.domain.common.entity.QTimestamped(this);
 
+    public final NumberPath<Long> commentCount = createNumber("commentCount", Long.class);
+
     public final ListPath<org.example.expert.domain.comment.entity.Comment, org.example.expert.domain.comment.entity.QComment> comments = this.<org.example.expert.domain.comment.entity.Comment, org.example.expert.domain.comment.entity.QComment>createList("comments", org.example.expert.domain.comment.entity.Comment.class, org.example.expert.domain.comment.entity.QComment.class, PathInits.DIRECT2);
 
     public final StringPath contents = createString("contents");
@@ -33,6 +35,8 @@ public class QTodo extends EntityPathBase<Todo> {
 
     public final NumberPath<Long> id = createNumber("id", Long.class);
 
+    public final NumberPath<Long> managerCount = createNumber("managerCount", Long.class);
+
     public final ListPath<org.example.expert.domain.manager.entity.Manager, org.example.expert.domain.manager.entity.QManager> managers = this.<org.example.expert.domain.manager.entity.Manager, org.example.expert.domain.manager.entity.QManager>createList("managers", org.example.expert.domain.manager.entity.Manager.class, org.example.expert.domain.manager.entity.QManager.class, PathInits.DIRECT2);
 
     //inherited
@@ -37,6 +37,8 @@ public class QUser extends EntityPathBase<User> {
 
     public final StringPath profileImageUrl = createString("profileImageUrl");
 
+    public final NumberPath<Long> securityVersion = createNumber("securityVersion", Long.class);
+
     public final EnumPath<org.example.expert.domain.user.enums.UserRole> userRole = createEnum("userRole", org.example.expert.domain.user.enums.UserRole.class);
 
     public QUser(String variable) {
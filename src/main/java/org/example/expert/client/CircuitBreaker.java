@@ -0,0 +1,135 @@
+package org.example.expert.client;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.function.LongSupplier;
+
+// 최근 windowSize 번의 호출 결과로 실패율을 계산하는 회로 차단기.
+// CLOSED 에서 실패율이 기준을 넘으면 OPEN 이 되어 호출을 바로 거절하고,
+// openDurationMs 가 지나면 HALF_OPEN 에서 한 번만 시험 호출을 보내 성공하면 다시 CLOSED 로 돌아간다
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationMs;
+    private final LongSupplier clock;
+
+    // 호출 결과 링 버퍼. true 가 실패
+    private final boolean[] window;
+    private int windowIndex = 0;
+    private int recordedCalls = 0;
+    private int failures = 0;
+
+    private State state = State.CLOSED;
+    private long openedAt = 0L;
+    private boolean probeInFlight = false;
+
+    public CircuitBreaker(String name, int windowSize, int minimumCalls, double failureRateThreshold, long openDurationMs) {
+        this(name, windowSize, minimumCalls, failureRateThreshold, openDurationMs, System::currentTimeMillis);
+    }
+
+    CircuitBreaker(String name, int windowSize, int minimumCalls, double failureRateThreshold, long openDurationMs,
+                   LongSupplier clock) {
+        this.name = name;
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationMs = openDurationMs;
+        this.clock = clock;
+        this.window = new boolean[windowSize];
+    }
+
+    // 호출해도 되는지 확인한다. true 를 받았으면 반드시 onSuccess 나 onFailure 를 불러야 한다
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (clock.getAsLong() - openedAt < openDurationMs) {
+                    return false;
+                }
+                transitionTo(State.HALF_OPEN);
+                probeInFlight = true;
+                return true;
+            default:
+                // HALF_OPEN 에서는 시험 호출 하나만 보낸다
+                if (probeInFlight) {
+                    return false;
+                }
+                probeInFlight = true;
+                return true;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+            resetWindow();
+            transitionTo(State.CLOSED);
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+            open();
+            return;
+        }
+        record(true);
+        if (recordedCalls >= minimumCalls && failureRate() >= failureRateThreshold) {
+            open();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized double failureRate() {
+        return recordedCalls == 0 ? 0.0 : (double) failures / recordedCalls;
+    }
+
+    private void record(boolean failed) {
+        if (recordedCalls == windowSize) {
+            // 가장 오래된 결과를 밀어낸다
+            if (window[windowIndex]) {
+                failures--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        window[windowIndex] = failed;
+        if (failed) {
+            failures++;
+        }
+        windowIndex = (windowIndex + 1) % windowSize;
+    }
+
+    private void open() {
+        openedAt = clock.getAsLong();
+        resetWindow();
+        transitionTo(State.OPEN);
+    }
+
+    private void resetWindow() {
+        windowIndex = 0;
+        recordedCalls = 0;
+        failures = 0;
+    }
+
+    private void transitionTo(State newState) {
+        if (state != newState) {
+            log.warn("회로 차단기 [{}] 상태 변경: {} -> {}", name, state, newState);
+            state = newState;
+        }
+    }
+}
@@ -1,30 +1,146 @@
 package org.example.expert.client;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
 import java.net.URI;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
+// 1년치 날씨 표를 통째로 내려받는다. 요청 경로에서는 호출하지 않고 WeatherProvider 가 주기적으로 부른다.
+// 연결 풀과 타임아웃으로 느린 원격 서버가 스레드를 붙잡지 못하게 하고, 실패가 이어지면 회로를 열어 호출하지 않는다.
+// 실패하면 빈 결과를 돌려주고, 마지막으로 받은 표는 WeatherProvider 가 계속 쓴다
+@Slf4j
 @Component
 public class WeatherClient {
 
+    private final CloseableHttpClient httpClient;
     private final RestTemplate restTemplate;
+    private final URI weatherApiUri;
+    private final CircuitBreaker circuitBreaker;
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Counter rejectedCounter;
+
+    public WeatherClient(
+            RestTemplateBuilder builder,
+            @Value("${weather.client.base-url:https://f-api.github.io}") String baseUrl,
+            @Value("${weather.client.connect-timeout-ms:1000}") long connectTimeoutMs,
+            @Value("${weather.client.read-timeout-ms:3000}") long readTimeoutMs,
+            @Value("${weather.client.pool-acquire-timeout-ms:500}") long poolAcquireTimeoutMs,
+            @Value("${weather.client.max-connections:10}") int maxConnections,
+            @Value("${weather.client.circuit.window-size:4}") int windowSize,
+            @Value("${weather.client.circuit.minimum-calls:2}") int minimumCalls,
+            @Value("${weather.client.circuit.failure-rate-threshold:0.5}") double failureRateThreshold,
+            @Value("${weather.client.circuit.open-duration-ms:10800000}") long openDurationMs,
+            MeterRegistry meterRegistry
+    ) {
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(maxConnections)
+                        .setMaxConnPerRoute(maxConnections)
+                        .setDefaultConnectionConfig(ConnectionConfig.custom()
+                                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                                .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                                .setTimeToLive(TimeValue.ofMinutes(5))
+                                .build())
+                        .build())
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        // 풀이 다 찼을 때 무한정 기다리지 않는다
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolAcquireTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                // 재시도는 회로 차단기와 호출하는 쪽의 주기에 맡긴다
+                .disableAutomaticRetries()
+                .build();
+        this.restTemplate = builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
+        this.weatherApiUri = UriComponentsBuilder
+                .fromUriString(baseUrl)
+                .path("/f-api/weather.json")
+                .encode()
+                .build()
+                .toUri();
+        this.circuitBreaker = new CircuitBreaker("weather", windowSize, minimumCalls, failureRateThreshold, openDurationMs);
+
+        this.successTimer = Timer.builder("weather.client.requests")
+                .tag("outcome", "success")
+                .description("날씨 API 호출 지연 시간")
+                .register(meterRegistry);
+        this.failureTimer = Timer.builder("weather.client.requests")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("weather.client.rejected")
+                .description("회로가 열려 호출하지 않은 횟수")
+                .register(meterRegistry);
+        Gauge.builder("weather.client.failure.rate", circuitBreaker, CircuitBreaker::failureRate)
+                .register(meterRegistry);
+        Gauge.builder("weather.client.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("0: CLOSED, 1: OPEN, 2: HALF_OPEN")
+                .register(meterRegistry);
+    }
+
+    // 새로 받은 표. 호출이 실패했거나 회로가 열려 있으면 빈 값
+    public Optional<List<WeatherDto>> fetchWeatherTable() {
+        if (!circuitBreaker.tryAcquire()) {
+            rejectedCounter.increment();
+            log.debug("날씨 API 회로가 열려 있어 호출하지 않았습니다.");
+            return Optional.empty();
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            List<WeatherDto> table = request();
+            successTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            circuitBreaker.onSuccess();
+            return Optional.of(table);
+        } catch (RuntimeException e) {
+            failureTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            circuitBreaker.onFailure();
+            log.warn("날씨 API 호출 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
     }
 
-    public String getTodayWeather() {
+    @PreDestroy
+    public void close() throws IOException {
+        httpClient.close();
+    }
+
+    private List<WeatherDto> request() {
         ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+                restTemplate.getForEntity(weatherApiUri, WeatherDto[].class);
 
         if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
             throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + responseEntity.getStatusCode());
@@ -35,28 +151,6 @@ public class WeatherClient {
             throw new ServerException("날씨 데이터가 없습니다.");
         }
 
-        String today = getCurrentDate();
-
-        for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
-            }
-        }
-
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
-    }
-
-    private URI buildWeatherApiUri() {
-        return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
-                .path("/f-api/weather.json")
-                .encode()
-                .build()
-                .toUri();
-    }
-
-    private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
+        return Arrays.asList(weatherArray);
     }
 }
@@ -0,0 +1,143 @@
+package org.example.expert.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.dto.WeatherDto;
+import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// 날씨 표를 MM-dd 키의 맵으로 들고 있다가 todo 생성 시 조회만 한다.
+// 원격 표는 주기적으로 다시 받아 교체하고, 받을 때마다 디스크에 스냅샷을 남겨 재기동이나 원격 장애 시 그대로 쓴다
+@Slf4j
+@Component
+public class WeatherProvider {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
+
+    private final WeatherClient weatherClient;
+    private final ObjectMapper objectMapper;
+    private final Path snapshotPath;
+
+    private volatile Map<String, String> table = Map.of();
+    private volatile long refreshedAt = 0L;
+
+    public WeatherProvider(
+            WeatherClient weatherClient,
+            ObjectMapper objectMapper,
+            @Value("${weather.snapshot-path:${java.io.tmpdir}/spring-plus/weather.json}") String snapshotPath,
+            MeterRegistry meterRegistry
+    ) {
+        this.weatherClient = weatherClient;
+        this.objectMapper = objectMapper;
+        this.snapshotPath = Paths.get(snapshotPath);
+
+        Gauge.builder("weather.table.size", this, provider -> provider.table.size())
+                .register(meterRegistry);
+        Gauge.builder("weather.table.age.seconds", this, WeatherProvider::ageSeconds)
+                .description("마지막으로 원격 날씨 표를 받은 뒤 지난 시간")
+                .register(meterRegistry);
+    }
+
+    // 스냅샷이 있으면 바로 쓰고, 없을 때만 기동 중에 원격 표를 받는다
+    @PostConstruct
+    public void init() {
+        if (loadSnapshot()) {
+            return;
+        }
+        refresh();
+    }
+
+    @Scheduled(initialDelayString = "${weather.refresh-interval-ms:3600000}",
+            fixedDelayString = "${weather.refresh-interval-ms:3600000}")
+    public void refresh() {
+        Optional<List<WeatherDto>> fetched = weatherClient.fetchWeatherTable();
+        if (fetched.isEmpty()) {
+            // 호출 실패나 회로 열림. 기존 표와 스냅샷을 그대로 유지한다
+            log.warn("날씨 표 갱신 실패, 기존 데이터({}건)를 계속 사용합니다.", table.size());
+            return;
+        }
+
+        List<WeatherDto> rows = fetched.get();
+        table = toTable(rows);
+        refreshedAt = System.currentTimeMillis();
+        saveSnapshot(rows);
+        log.info("날씨 표 갱신 완료 - {}건", table.size());
+    }
+
+    public String getTodayWeather() {
+        return getWeather(LocalDate.now());
+    }
+
+    public String getWeather(LocalDate date) {
+        Map<String, String> current = table;
+        if (current.isEmpty()) {
+            throw new ServerException("날씨 데이터가 없습니다.");
+        }
+
+        String weather = current.get(date.format(DATE_FORMATTER));
+        if (weather == null) {
+            throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        }
+        return weather;
+    }
+
+    private boolean loadSnapshot() {
+        if (!Files.isReadable(snapshotPath)) {
+            return false;
+        }
+
+        try {
+            WeatherDto[] rows = objectMapper.readValue(snapshotPath.toFile(), WeatherDto[].class);
+            table = toTable(List.of(rows));
+            log.info("날씨 표 스냅샷 적재 - {}건, 경로: {}", table.size(), snapshotPath);
+            return !table.isEmpty();
+        } catch (IOException e) {
+            log.warn("날씨 표 스냅샷을 읽지 못했습니다. 경로: {}, 원인: {}", snapshotPath, e.getMessage());
+            return false;
+        }
+    }
+
+    // 임시 파일에 쓴 뒤 옮겨서 읽는 쪽이 반쯤 쓰인 파일을 보지 않게 한다
+    private void saveSnapshot(List<WeatherDto> rows) {
+        try {
+            Path parent = snapshotPath.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, "weather", ".tmp");
+            objectMapper.writeValue(temp.toFile(), rows);
+            Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("날씨 표 스냅샷 저장 실패. 경로: {}, 원인: {}", snapshotPath, e.getMessage());
+        }
+    }
+
+    private Map<String, String> toTable(List<WeatherDto> rows) {
+        Map<String, String> newTable = new HashMap<>(rows.size() * 2);
+        for (WeatherDto row : rows) {
+            if (row.getDate() != null && row.getWeather() != null) {
+                newTable.put(row.getDate(), row.getWeather());
+            }
+        }
+        return Map.copyOf(newTable);
+    }
+
+    private double ageSeconds() {
+        return refreshedAt == 0L ? -1 : (System.currentTimeMillis() - refreshedAt) / 1000.0;
+    }
+}
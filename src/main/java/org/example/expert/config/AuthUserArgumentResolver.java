@@ -1,12 +1,12 @@
 package org.example.expert.config;
 
-import jakarta.servlet.http.HttpServletRequest;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
-import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.core.MethodParameter;
 import org.springframework.lang.Nullable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
@@ -34,19 +34,14 @@ public class AuthUserArgumentResolver implements HandlerMethodArgumentResolver {
             NativeWebRequest webRequest,
             @Nullable WebDataBinderFactory binderFactory
     ) {
-        HttpServletRequest request = (HttpServletRequest) webRequest.getNativeRequest();
-
-        // JwtFilter 에서 set 한 userId, email, userRole 값을 가져옴
-        Long userId = (Long) request.getAttribute("userId");
-        String email = (String) request.getAttribute("email");
-        UserRole userRole = UserRole.of((String) request.getAttribute("userRole"));
-        String nickname = (String) request.getAttribute("nickname");
+        // JwtFilter 에서 SecurityContext 에 저장한 AuthUser 를 그대로 사용
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
         // 필수 정보가 없으면 인증 실패로 처리
-        if (userId == null || email == null || userRole == null) {
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthUser authUser)) {
             throw new AuthException("인증 정보가 없습니다.");
         }
 
-        return new AuthUser(userId, email, userRole, nickname);
+        return authUser;
     }
 }
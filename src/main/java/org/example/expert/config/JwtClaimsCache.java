@@ -0,0 +1,93 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 서명 검증이 끝난 토큰의 claims 를 토큰 만료 시각까지 보관하는 캐시
+public class JwtClaimsCache {
+
+    private final Map<String, CachedClaims> cache = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    public JwtClaimsCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public Claims get(String token, long now) {
+        String key = digest(token);
+        CachedClaims cached = cache.get(key);
+        if (cached == null) {
+            return null;
+        }
+
+        // 만료된 토큰은 캐시에서 제거하고 파서가 ExpiredJwtException 을 던지도록 넘긴다
+        if (cached.expiresAt <= now) {
+            cache.remove(key, cached);
+            return null;
+        }
+        return cached.claims;
+    }
+
+    public void put(String token, Claims claims, long now) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null || expiration.getTime() <= now) {
+            return;
+        }
+
+        if (cache.size() >= maxSize) {
+            evictExpired(now);
+            // 만료 항목을 비워도 가득 차 있으면 캐시하지 않고 매번 검증한다
+            if (cache.size() >= maxSize) {
+                return;
+            }
+        }
+        cache.put(digest(token), new CachedClaims(claims, expiration.getTime()));
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    private void evictExpired(long now) {
+        Iterator<CachedClaims> iterator = cache.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().expiresAt <= now) {
+                iterator.remove();
+            }
+        }
+    }
+
+    // 원본 토큰 대신 SHA-256 다이제스트를 키로 사용해 메모리와 노출 범위를 줄인다
+    static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static final class CachedClaims {
+
+        private final Claims claims;
+        private final long expiresAt;
+
+        private CachedClaims(Claims claims, long expiresAt) {
+            this.claims = claims;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -4,86 +4,136 @@ import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
-import jakarta.servlet.FilterConfig;
-import jakarta.servlet.*;
+import io.jsonwebtoken.security.SecurityException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.ServerException;
 import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.index.UserSecurityVersionTable;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @RequiredArgsConstructor
 @Component
-public class JwtFilter implements Filter {
+public class JwtFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
+    // 역할별 권한 목록은 요청마다 만들지 않고 재사용한다
+    private static final Map<UserRole, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(UserRole.class);
 
-    @Override
-    public void init(FilterConfig filterConfig) throws ServletException {
-        Filter.super.init(filterConfig);
+    static {
+        for (UserRole userRole : UserRole.values()) {
+            AUTHORITIES.put(userRole, List.of(new SimpleGrantedAuthority("ROLE_" + userRole.name())));
+        }
     }
 
-    @Override
-    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
-        HttpServletRequest httpRequest = (HttpServletRequest) request;
-        HttpServletResponse httpResponse = (HttpServletResponse) response;
+    private final JwtUtil jwtUtil;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final UserSecurityVersionTable userSecurityVersionTable;
+    private final JwtRejectionHandler rejectionHandler;
 
+    @Override
+    protected void doFilterInternal(HttpServletRequest httpRequest, HttpServletResponse httpResponse, FilterChain chain) throws ServletException, IOException {
         String bearerJwt = httpRequest.getHeader("Authorization");
 
         if (bearerJwt == null) {
             // 토큰이 없으면 SecurityConfig에서 판단
-            chain.doFilter(request, response);
+            chain.doFilter(httpRequest, httpResponse);
             return;
         }
 
+        String jwt;
         try {
-            String jwt = jwtUtil.substringToken(bearerJwt);
-            // JWT 유효성 검사와 claims 추출
-            Claims claims = jwtUtil.extractClaims(jwt);
-
-            if (claims != null) {
-                UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
-
-                List<SimpleGrantedAuthority> authorities = List.of(
-                        new SimpleGrantedAuthority("ROLE_" + userRole.name())
-                );
-
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(claims.getSubject(), null, authorities);
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+            jwt = jwtUtil.substringToken(bearerJwt);
+        } catch (ServerException e) {
+            rejectionHandler.reject(httpResponse, JwtRejectReason.UNSUPPORTED);
+            return;
+        }
 
-                httpRequest.setAttribute("userId", Long.parseLong(claims.getSubject()));
-                httpRequest.setAttribute("email", claims.get("email"));
-                httpRequest.setAttribute("userRole", claims.get("userRole"));
-                httpRequest.setAttribute("nickname", claims.get("nickname"));
-            }
+        // 최근에 거부한 토큰은 파싱과 서명 검증 없이 바로 돌려보낸다
+        long now = System.currentTimeMillis();
+        JwtRejectReason cached = rejectionHandler.lookup(jwt, now);
+        if (cached != null) {
+            rejectionHandler.reject(httpResponse, cached);
+            return;
+        }
 
-            chain.doFilter(request, response);
-        } catch (SecurityException | MalformedJwtException e) {
-            log.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.", e);
-            httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않는 JWT 서명입니다.");
+        Claims claims;
+        try {
+            // JWT 유효성 검사와 claims 추출
+            claims = jwtUtil.extractClaims(jwt);
+        } catch (SecurityException | MalformedJwtException | IllegalArgumentException e) {
+            rejectAndRemember(httpResponse, jwt, JwtRejectReason.INVALID_SIGNATURE, now);
+            return;
         } catch (ExpiredJwtException e) {
-            log.error("Expired JWT token, 만료된 JWT token 입니다.", e);
-            httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "만료된 JWT 토큰입니다.");
+            rejectAndRemember(httpResponse, jwt, JwtRejectReason.EXPIRED, now);
+            return;
         } catch (UnsupportedJwtException e) {
-            log.error("Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다.", e);
-            httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "지원되지 않는 JWT 토큰입니다.");
+            rejectAndRemember(httpResponse, jwt, JwtRejectReason.UNSUPPORTED, now);
+            return;
         } catch (Exception e) {
             log.error("Internal server error", e);
             httpResponse.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            return;
+        }
+
+        // 로그아웃 등으로 폐기된 토큰인지 메모리에서 바로 확인
+        if (tokenRevocationStore.isRevoked(claims.getId(), claims.getExpiration().getTime())) {
+            rejectAndRemember(httpResponse, jwt, JwtRejectReason.REVOKED, now);
+            return;
+        }
+
+        AuthUser authUser = toAuthUser(claims);
+
+        // 권한 변경이나 비밀번호 변경 이전에 발급된 토큰은 DB 조회 없이 메모리에서 거른다
+        if (userSecurityVersionTable.isStale(authUser.getId(), tokenVersion(claims))) {
+            rejectAndRemember(httpResponse, jwt, JwtRejectReason.STALE_VERSION, now);
+            return;
         }
+
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(authUser, null, AUTHORITIES.get(authUser.getUserRole()));
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
+
+        chain.doFilter(httpRequest, httpResponse);
     }
 
-    @Override
-    public void destroy() {
-        Filter.super.destroy();
+    // 한 번 거부된 토큰은 나중에도 유효해지지 않으므로 잠시 기억해 둔다
+    private void rejectAndRemember(HttpServletResponse httpResponse, String jwt, JwtRejectReason reason, long now) throws IOException {
+        rejectionHandler.remember(jwt, reason, now);
+        rejectionHandler.reject(httpResponse, reason);
+    }
+
+    // ver 클레임이 없는 이전 토큰은 버전 0 으로 본다
+    private long tokenVersion(Claims claims) {
+        Number version = claims.get("ver", Number.class);
+        return version == null ? 0L : version.longValue();
+    }
+
+    private AuthUser toAuthUser(Claims claims) {
+        return new AuthUser(
+                Long.parseLong(claims.getSubject()),
+                claims.get("email", String.class),
+                UserRole.valueOf(claims.get("userRole", String.class)),
+                claims.get("nickname", String.class)
+        );
     }
 }
@@ -0,0 +1,33 @@
+package org.example.expert.config;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+
+// JWT 거부 사유. 응답 본문은 GlobalExceptionHandler 와 같은 형태로 미리 직렬화해 둔다
+public enum JwtRejectReason {
+
+    INVALID_SIGNATURE(HttpStatus.UNAUTHORIZED, "유효하지 않는 JWT 서명입니다."),
+    EXPIRED(HttpStatus.UNAUTHORIZED, "만료된 JWT 토큰입니다."),
+    UNSUPPORTED(HttpStatus.BAD_REQUEST, "지원되지 않는 JWT 토큰입니다."),
+    REVOKED(HttpStatus.UNAUTHORIZED, "폐기된 JWT 토큰입니다."),
+    STALE_VERSION(HttpStatus.UNAUTHORIZED, "권한 정보가 변경되었습니다. 다시 로그인해주세요.");
+
+    @Getter
+    private final HttpStatus status;
+    @Getter
+    private final String message;
+    private final byte[] body;
+
+    JwtRejectReason(HttpStatus status, String message) {
+        this.status = status;
+        this.message = message;
+        this.body = ("{\"status\":\"" + status.name() + "\",\"code\":" + status.value()
+                + ",\"message\":\"" + message + "\"}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    byte[] body() {
+        return body;
+    }
+}
@@ -0,0 +1,144 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// 잘못된 토큰을 싸게 거부한다.
+// 최근 거부한 토큰은 파싱 없이 바로 돌려보내고, 로그는 사유별 건수로 묶어 일정 간격으로만 남긴다
+@Slf4j(topic = "JwtRejection")
+@Component
+public class JwtRejectionHandler {
+
+    private final AtomicReferenceArray<Rejected> recentlyRejected;
+    private final int mask;
+    private final long ttlMs;
+    private final long logIntervalMs;
+    private final AtomicLong nextLogAt;
+    private final Map<JwtRejectReason, LongAdder> pending = new EnumMap<>(JwtRejectReason.class);
+    private final Map<JwtRejectReason, Counter> counters = new EnumMap<>(JwtRejectReason.class);
+    private final Counter cacheHitCounter;
+
+    public JwtRejectionHandler(
+            @Value("${jwt.rejection.cache-size:4096}") int cacheSize,
+            @Value("${jwt.rejection.cache-ttl-ms:10000}") long ttlMs,
+            @Value("${jwt.rejection.log-interval-ms:10000}") long logIntervalMs,
+            MeterRegistry meterRegistry
+    ) {
+        // 슬롯 계산을 비트 연산으로 하기 위해 2 의 거듭제곱으로 맞춘다
+        int capacity = Integer.highestOneBit(Math.max(16, cacheSize - 1) << 1);
+        this.recentlyRejected = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.ttlMs = ttlMs;
+        this.logIntervalMs = logIntervalMs;
+        this.nextLogAt = new AtomicLong(System.currentTimeMillis() + logIntervalMs);
+
+        for (JwtRejectReason reason : JwtRejectReason.values()) {
+            pending.put(reason, new LongAdder());
+            counters.put(reason, Counter.builder("jwt.rejected")
+                    .tag("reason", reason.name())
+                    .description("거부된 JWT 토큰 수")
+                    .register(meterRegistry));
+        }
+        this.cacheHitCounter = Counter.builder("jwt.rejected.cache.hit")
+                .description("최근 거부 목록에서 바로 거부한 횟수")
+                .register(meterRegistry);
+    }
+
+    // 최근에 거부한 토큰이면 그 사유를, 아니면 null 을 돌려준다
+    public JwtRejectReason lookup(String token, long now) {
+        long hash = hash(token);
+        Rejected rejected = recentlyRejected.get(slot(hash));
+        if (rejected == null || rejected.hash != hash || rejected.length != token.length() || rejected.expiresAt <= now) {
+            return null;
+        }
+        cacheHitCounter.increment();
+        return rejected.reason;
+    }
+
+    public void remember(String token, JwtRejectReason reason, long now) {
+        long hash = hash(token);
+        // 같은 칸을 쓰는 다른 토큰은 덮어쓴다. 놓쳐도 다시 파싱할 뿐이다
+        recentlyRejected.set(slot(hash), new Rejected(hash, token.length(), reason, now + ttlMs));
+    }
+
+    // 사유별 건수를 세고 미리 만든 본문으로 응답한다. 예외 스택은 남기지 않는다
+    public void reject(HttpServletResponse response, JwtRejectReason reason) throws IOException {
+        record(reason);
+
+        byte[] body = reason.body();
+        response.setStatus(reason.getStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private void record(JwtRejectReason reason) {
+        counters.get(reason).increment();
+        pending.get(reason).increment();
+
+        long now = System.currentTimeMillis();
+        long scheduled = nextLogAt.get();
+        // 간격이 지났을 때 한 스레드만 요약 로그를 남긴다
+        if (now >= scheduled && nextLogAt.compareAndSet(scheduled, now + logIntervalMs)) {
+            logSummary();
+        }
+    }
+
+    private void logSummary() {
+        StringBuilder summary = new StringBuilder();
+        long total = 0;
+        for (Map.Entry<JwtRejectReason, LongAdder> entry : pending.entrySet()) {
+            long count = entry.getValue().sumThenReset();
+            if (count > 0) {
+                summary.append(' ').append(entry.getKey().name()).append('=').append(count);
+                total += count;
+            }
+        }
+        if (total > 0) {
+            log.warn("JWT 거부 요약 - 총 {}건:{}", total, summary);
+        }
+    }
+
+    private int slot(long hash) {
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    // 요청마다 다이제스트 객체를 만들지 않도록 문자 단위 FNV-1a 로 해시한다
+    static long hash(String token) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < token.length(); i++) {
+            hash ^= token.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        return hash ^ (hash >>> 33);
+    }
+
+    private static final class Rejected {
+
+        private final long hash;
+        private final int length;
+        private final JwtRejectReason reason;
+        private final long expiresAt;
+
+        private Rejected(long hash, int length, JwtRejectReason reason, long expiresAt) {
+            this.hash = hash;
+            this.length = length;
+            this.reason = reason;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
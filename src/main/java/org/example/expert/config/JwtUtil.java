@@ -1,6 +1,7 @@
 package org.example.expert.config;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -15,34 +16,46 @@ import org.springframework.util.StringUtils;
 import java.security.Key;
 import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
 
 @Slf4j(topic = "JwtUtil")
 @Component
 public class JwtUtil {
 
     private static final String BEARER_PREFIX = "Bearer ";
-    private static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
+    static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
 
     @Value("${jwt.secret.key}")
     private String secretKey;
+    @Value("${jwt.cache.max-size:10000}")
+    private int cacheMaxSize;
     private Key key;
+    private JwtParser jwtParser;
+    private JwtClaimsCache claimsCache;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        // JwtParser 는 불변 객체라 스레드 간에 공유해도 안전하다
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        claimsCache = new JwtClaimsCache(cacheMaxSize);
     }
 
-    public String createToken(Long userId, String email, UserRole userRole, String nickname) {
+    public String createToken(Long userId, String email, UserRole userRole, String nickname, long securityVersion) {
         Date date = new Date();
 
         return BEARER_PREFIX +
                 Jwts.builder()
                         .setSubject(String.valueOf(userId))
+                        .setId(UUID.randomUUID().toString()) // 폐기 대상 식별용 jti
                         .claim("email", email)
                         .claim("userRole", userRole)
                         .claim("nickname", nickname)
+                        .claim("ver", securityVersion) // 권한 변경 여부 확인용 보안 버전
                         .setExpiration(new Date(date.getTime() + TOKEN_TIME))
                         .setIssuedAt(date) // 발급일
                         .signWith(key, signatureAlgorithm) // 암호화 알고리즘
@@ -57,10 +70,16 @@ public class JwtUtil {
     }
 
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        long now = System.currentTimeMillis();
+
+        // 이미 검증한 토큰이면 파싱과 서명 검증을 건너뛴다
+        Claims cached = claimsCache.get(token, now);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        claimsCache.put(token, claims, now);
+        return claims;
     }
 }
@@ -1,17 +1,126 @@
 package org.example.expert.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+@Slf4j(topic = "PasswordEncoder")
 @Component
+@RequiredArgsConstructor
 public class PasswordEncoder {
 
+    private static final char[] CALIBRATION_PASSWORD = "Calibration1234!".toCharArray();
+
+    private final PasswordHashExecutor passwordHashExecutor;
+
+    @Value("${password.bcrypt.cost:0}")
+    private int configuredCost;
+    @Value("${password.bcrypt.target-latency-ms:50}")
+    private long targetLatencyMs;
+    @Value("${password.bcrypt.min-cost:4}")
+    private int minCost;
+    @Value("${password.bcrypt.max-cost:14}")
+    private int maxCost;
+    @Value("${password.bcrypt.calibration-samples:5}")
+    private int calibrationSamples;
+
+    private volatile int cost = BCrypt.MIN_COST;
+
+    @PostConstruct
+    public void init() {
+        if (configuredCost > 0) {
+            cost = configuredCost;
+            log.info("bcrypt cost 고정값 사용: {}", cost);
+            return;
+        }
+        cost = calibrate();
+    }
+
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        return passwordHashExecutor.execute(() -> hash(rawPassword));
+    }
+
+    // 호출한 스레드에서 바로 해시한다. 대량 가져오기처럼 자체 풀에서 병렬로 돌리는 경우에 쓰며,
+    // 가입/로그인용 풀의 대기열을 차지하지 않는다
+    public String encodeOnCurrentThread(String rawPassword) {
+        return hash(rawPassword);
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
+        return passwordHashExecutor.execute(() -> verify(rawPassword, encodedPassword));
+    }
+
+    // 저장된 해시의 cost 가 현재 cost 보다 낮을 때만 재해시 대상.
+    // cost 는 노드마다 따로 보정하므로 다르기만 해도 바꾸면 노드 사이를 오갈 때마다 해시를 다시 쓰게 된다
+    public boolean needsRehash(String encodedPassword) {
+        int encodedCost = parseCost(encodedPassword);
+        return encodedCost > 0 && encodedCost < cost;
+    }
+
+    // 요청 스레드를 기다리게 하지 않고 여유가 있을 때만 백그라운드에서 해시한다
+    public boolean tryEncodeInBackground(String rawPassword, Consumer<String> onEncoded) {
+        return passwordHashExecutor.trySubmit(() -> onEncoded.accept(hash(rawPassword)));
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    private String hash(String rawPassword) {
+        return BCrypt.withDefaults().hashToString(cost, rawPassword.toCharArray());
+    }
+
+    private boolean verify(String rawPassword, String encodedPassword) {
         BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
         return result.verified;
     }
+
+    // 목표 지연시간 안에 들어오는 가장 높은 cost 를 고른다
+    private int calibrate() {
+        int chosen = minCost;
+
+        for (int candidate = minCost; candidate <= maxCost; candidate++) {
+            long p99Ms = measureP99Millis(candidate);
+            log.info("bcrypt cost {} 측정 - p99: {}ms (목표 {}ms)", candidate, p99Ms, targetLatencyMs);
+
+            if (p99Ms > targetLatencyMs) {
+                break;
+            }
+            chosen = candidate;
+        }
+
+        log.info("bcrypt cost 보정 완료: {}", chosen);
+        return chosen;
+    }
+
+    private long measureP99Millis(int candidateCost) {
+        long[] samples = new long[calibrationSamples];
+        for (int i = 0; i < calibrationSamples; i++) {
+            long start = System.nanoTime();
+            BCrypt.withDefaults().hash(candidateCost, CALIBRATION_PASSWORD);
+            samples[i] = (System.nanoTime() - start) / 1_000_000;
+        }
+
+        Arrays.sort(samples);
+        int index = (int) Math.ceil(samples.length * 0.99) - 1;
+        return samples[Math.max(index, 0)];
+    }
+
+    // "$2a$10$..." 형식에서 cost 를 읽는다
+    private int parseCost(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
 }
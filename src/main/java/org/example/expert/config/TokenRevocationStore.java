@@ -0,0 +1,95 @@
+package org.example.expert.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// 폐기된 access token 의 jti 를 만료 시각 기준 시간 버킷에 나눠 담는다.
+// 토큰의 exp 로 버킷이 바로 정해지므로 조회는 버킷 하나만 보는 O(1) 이고, 만료된 버킷은 통째로 버린다
+@Component
+public class TokenRevocationStore {
+
+    private final long bucketWidthMs;
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    public TokenRevocationStore(@Value("${jwt.revocation.bucket-width-ms:300000}") long bucketWidthMs) {
+        this.bucketWidthMs = bucketWidthMs;
+        // access token 수명 전체를 덮을 만큼의 버킷을 원형으로 재사용한다
+        int size = (int) (JwtUtil.TOKEN_TIME / bucketWidthMs) + 2;
+        this.buckets = new AtomicReferenceArray<>(size);
+    }
+
+    public void revoke(String tokenId, long expiresAt) {
+        if (tokenId == null || expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+
+        long epoch = expiresAt / bucketWidthMs;
+        int slot = slotOf(epoch);
+
+        while (true) {
+            Bucket bucket = buckets.get(slot);
+            if (bucket != null && bucket.epoch == epoch) {
+                bucket.tokenIds.add(tokenId);
+                return;
+            }
+            // 같은 칸의 이전 버킷은 이미 만료된 것이므로 교체한다
+            Bucket created = new Bucket(epoch);
+            created.tokenIds.add(tokenId);
+            if (buckets.compareAndSet(slot, bucket, created)) {
+                return;
+            }
+        }
+    }
+
+    public boolean isRevoked(String tokenId, long expiresAt) {
+        if (tokenId == null) {
+            return false;
+        }
+
+        long epoch = expiresAt / bucketWidthMs;
+        Bucket bucket = buckets.get(slotOf(epoch));
+        return bucket != null && bucket.epoch == epoch && bucket.tokenIds.contains(tokenId);
+    }
+
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket != null) {
+                size += bucket.tokenIds.size();
+            }
+        }
+        return size;
+    }
+
+    // 만료된 버킷을 비워 메모리를 돌려준다
+    @Scheduled(fixedDelayString = "${jwt.revocation.bucket-width-ms:300000}")
+    public void evictExpired() {
+        long currentEpoch = System.currentTimeMillis() / bucketWidthMs;
+        for (int i = 0; i < buckets.length(); i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket != null && bucket.epoch < currentEpoch) {
+                buckets.compareAndSet(i, bucket, null);
+            }
+        }
+    }
+
+    private int slotOf(long epoch) {
+        return (int) Math.floorMod(epoch, (long) buckets.length());
+    }
+
+    private static final class Bucket {
+
+        private final long epoch;
+        private final Set<String> tokenIds = ConcurrentHashMap.newKeySet();
+
+        private Bucket(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package org.example.expert.domain.auth.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogoutRequest {
+
+    private String refreshToken;
+}
@@ -0,0 +1,23 @@
+package org.example.expert.domain.auth.repository;
+
+import org.example.expert.domain.auth.entity.RevokedToken;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    // since 이후에 저장된, 아직 만료되지 않은 폐기 토큰을 id 순서로 읽는다. lastId 는 페이지 커서
+    @Query("SELECT r FROM RevokedToken r WHERE r.createdAt >= :since AND r.id > :lastId AND r.expiresAt > :now ORDER BY r.id")
+    List<RevokedToken> findActiveCreatedSince(@Param("since") LocalDateTime since, @Param("lastId") Long lastId,
+                                              @Param("now") Long now, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") Long now);
+}
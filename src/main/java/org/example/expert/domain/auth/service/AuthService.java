@@ -1,34 +1,55 @@
 package org.example.expert.domain.auth.service;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.dto.request.LogoutRequest;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.request.TokenRefreshRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.index.EmailBloomFilter;
+import org.example.expert.domain.user.index.UserIndexLoader;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.NicknameTrigramService;
+import org.example.expert.domain.user.service.UserService;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AuthService {
 
     private final UserRepository userRepository;
+    private final UserService userService;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final EmailBloomFilter emailBloomFilter;
+    private final UserIndexLoader userIndexLoader;
+    private final NicknameTrigramService nicknameTrigramService;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
 
     @Transactional
     public SignupResponse signup(SignupRequest signupRequest) {
 
-        if (userRepository.existsByEmail(signupRequest.getEmail())) {
-            throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+        // 블룸 필터가 없다고 하면 DB 조회를 생략한다. 다른 노드와의 경합은 email 유니크 제약이 막는다
+        if (emailBloomFilter.mightContain(signupRequest.getEmail())) {
+            if (userRepository.existsByEmail(signupRequest.getEmail())) {
+                throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+            }
+            emailBloomFilter.recordFalsePositive();
         }
 
         String encodedPassword = passwordEncoder.encode(signupRequest.getPassword());
@@ -41,24 +62,74 @@ public class AuthService {
                 userRole,
                 signupRequest.getNickname()
         );
-        User savedUser = userRepository.save(newUser);
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(newUser);
+        } catch (DataIntegrityViolationException e) {
+            throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+        }
+        userIndexLoader.register(savedUser);
+        nicknameTrigramService.index(savedUser.getId(), savedUser.getNickname());
 
-        String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole, savedUser.getNickname());
+        String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole, savedUser.getNickname(), savedUser.getSecurityVersion());
 
         return new SignupResponse(bearerToken);
     }
 
+    @Transactional
     public SigninResponse signin(SigninRequest signinRequest) {
-        User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
-                () -> new InvalidRequestException("가입되지 않은 유저입니다."));
+        // 블룸 필터는 다른 노드의 가입을 주기 반영으로만 알기 때문에 "없음" 판정으로 로그인을 거절하지 않는다
+        User user = userRepository.findByEmail(signinRequest.getEmail())
+                .orElseThrow(() -> new InvalidRequestException("가입되지 않은 유저입니다."));
 
         // 로그인 시 이메일과 비밀번호가 일치하지 않을 경우 401을 반환합니다.
         if (!passwordEncoder.matches(signinRequest.getPassword(), user.getPassword())) {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
-        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole(), user.getNickname());
+        rehashPasswordIfNeeded(user, signinRequest.getPassword());
+
+        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole(), user.getNickname(), user.getSecurityVersion());
+        String refreshToken = refreshTokenService.issue(user.getId());
+
+        return new SigninResponse(bearerToken, refreshToken);
+    }
+
+    // 리프레시 토큰은 한 번만 쓸 수 있고, 사용할 때마다 새 토큰으로 교체된다
+    @Transactional
+    public SigninResponse refresh(TokenRefreshRequest tokenRefreshRequest) {
+        Long userId = refreshTokenService.consume(tokenRefreshRequest.getRefreshToken());
+
+        User user = userRepository.findFreshById(userId)
+                .orElseThrow(() -> new AuthException("가입되지 않은 유저입니다."));
+
+        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole(), user.getNickname(), user.getSecurityVersion());
+        String refreshToken = refreshTokenService.issue(user.getId());
+
+        return new SigninResponse(bearerToken, refreshToken);
+    }
+
+    @Transactional
+    public void logout(String bearerToken, LogoutRequest logoutRequest) {
+        Claims claims = jwtUtil.extractClaims(jwtUtil.substringToken(bearerToken));
+        tokenRevocationService.revoke(claims.getId(), claims.getExpiration().getTime());
+
+        if (logoutRequest != null && StringUtils.hasText(logoutRequest.getRefreshToken())) {
+            refreshTokenService.revoke(logoutRequest.getRefreshToken());
+        }
+    }
+
+    // 저장된 해시의 cost 가 현재 설정과 다르면 응답을 지연시키지 않고 백그라운드에서 교체
+    private void rehashPasswordIfNeeded(User user, String rawPassword) {
+        String oldPassword = user.getPassword();
+        if (!passwordEncoder.needsRehash(oldPassword)) {
+            return;
+        }
 
-        return new SigninResponse(bearerToken);
+        Long userId = user.getId();
+        passwordEncoder.tryEncodeInBackground(rawPassword, newPassword -> {
+            boolean updated = userService.rehashPassword(userId, oldPassword, newPassword);
+            log.debug("비밀번호 재해시 - userId: {}, cost: {}, 반영: {}", userId, passwordEncoder.getCost(), updated);
+        });
     }
 }
@@ -0,0 +1,82 @@
+package org.example.expert.domain.auth.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.auth.entity.RefreshToken;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Value("${jwt.refresh.expiration-days:14}")
+    private long expirationDays;
+
+    @Transactional
+    public String issue(Long userId) {
+        byte[] bytes = new byte[32];
+        SECURE_RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(new RefreshToken(hash(rawToken), userId, LocalDateTime.now().plusDays(expirationDays)));
+        return rawToken;
+    }
+
+    // 한 번 사용한 리프레시 토큰은 폐기하고 사용자 id 를 돌려준다. 재사용 감지 시의 삭제가 롤백되지 않도록 별도 트랜잭션
+    @Transactional(propagation = Propagation.REQUIRES_NEW, noRollbackFor = AuthException.class)
+    public Long consume(String rawToken) {
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new AuthException("유효하지 않은 리프레시 토큰입니다."));
+
+        if (refreshToken.isExpired(LocalDateTime.now())) {
+            throw new AuthException("만료된 리프레시 토큰입니다.");
+        }
+
+        // 이미 사용된 토큰이 다시 들어오면 탈취로 보고 해당 사용자의 리프레시 토큰을 모두 폐기
+        if (refreshTokenRepository.markUsed(refreshToken.getId()) == 0) {
+            refreshTokenRepository.deleteAllByUserId(refreshToken.getUserId());
+            log.warn("리프레시 토큰 재사용 감지 - userId: {}", refreshToken.getUserId());
+            throw new AuthException("이미 사용된 리프레시 토큰입니다.");
+        }
+
+        return refreshToken.getUserId();
+    }
+
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(refreshTokenRepository::delete);
+    }
+
+    @Transactional
+    public void revokeAll(Long userId) {
+        refreshTokenRepository.deleteAllByUserId(userId);
+    }
+
+    private String hash(String rawToken) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(rawToken.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
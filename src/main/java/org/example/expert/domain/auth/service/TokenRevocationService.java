@@ -0,0 +1,94 @@
+package org.example.expert.domain.auth.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.TokenRevocationStore;
+import org.example.expert.domain.auth.entity.RevokedToken;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
+import org.example.expert.domain.auth.repository.RevokedTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 폐기 목록의 원본은 revoked_tokens 테이블이고, 요청 경로에서는 메모리의 TokenRevocationStore 만 본다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    private static final int SYNC_CHUNK_SIZE = 1000;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenRevocationStore tokenRevocationStore;
+
+    @Value("${jwt.revocation.sync-overlap-ms:60000}")
+    private long syncOverlapMs;
+
+    // 마지막으로 동기화를 시작한 시각. null 이면 아직 만료되지 않은 전체를 읽는다
+    private LocalDateTime lastSyncedAt;
+
+    @Transactional
+    public void revoke(String tokenId, long expiresAt) {
+        if (tokenId == null || expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+        revokedTokenRepository.save(new RevokedToken(tokenId, expiresAt));
+        tokenRevocationStore.revoke(tokenId, expiresAt);
+    }
+
+    // 기동 시 테이블에서 아직 유효한 폐기 목록을 다시 만든다
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        int count = syncFromDatabase();
+        log.info("토큰 폐기 목록 복원 완료 - {}건", count);
+    }
+
+    // 다른 노드에서 폐기한 토큰을 반영
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:5000}")
+    public void sync() {
+        syncFromDatabase();
+    }
+
+    @Scheduled(cron = "${jwt.revocation.cleanup-cron:0 0 * * * *}")
+    @Transactional
+    public void cleanup() {
+        int revoked = revokedTokenRepository.deleteExpired(System.currentTimeMillis());
+        int refresh = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        log.info("만료 토큰 정리 - 폐기 목록: {}건, 리프레시 토큰: {}건", revoked, refresh);
+    }
+
+    // IDENTITY id 는 커밋 순서가 아니라서 늦게 커밋된 행이 이미 읽은 id 보다 작을 수 있다.
+    // 그래서 id 대신 저장 시각으로 지난 동기화보다 overlap 만큼 앞에서부터 다시 읽는다. 같은 토큰을 다시 넣어도 안전하다
+    private synchronized int syncFromDatabase() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = lastSyncedAt == null
+                ? LocalDateTime.of(1970, 1, 1, 0, 0)
+                : lastSyncedAt.minus(Duration.ofMillis(syncOverlapMs));
+
+        long cursor = 0L;
+        int count = 0;
+        while (true) {
+            List<RevokedToken> tokens = revokedTokenRepository.findActiveCreatedSince(
+                    since, cursor, System.currentTimeMillis(), PageRequest.of(0, SYNC_CHUNK_SIZE));
+            for (RevokedToken token : tokens) {
+                tokenRevocationStore.revoke(token.getTokenId(), token.getExpiresAt());
+                cursor = token.getId();
+            }
+            count += tokens.size();
+
+            if (tokens.size() < SYNC_CHUNK_SIZE) {
+                lastSyncedAt = startedAt;
+                return count;
+            }
+        }
+    }
+}
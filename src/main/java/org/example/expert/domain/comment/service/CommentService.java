@@ -39,6 +39,7 @@ public class CommentService {
         );
 
         Comment savedComment = commentRepository.save(newComment);
+        todoRepository.addCommentCount(todo.getId(), 1);
 
         return new CommentSaveResponse(
                 savedComment.getId(),
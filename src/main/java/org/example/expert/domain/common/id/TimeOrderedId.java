@@ -0,0 +1,15 @@
+package org.example.expert.domain.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// IDENTITY 대신 애플리케이션에서 id 를 미리 만든다. insert 전에 id 를 알 수 있어 Hibernate JDBC 배치가 동작한다
+@IdGeneratorType(TimeOrderedIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedId {
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.example.expert.domain.common.entity.Timestamped;
+import org.example.expert.domain.common.id.TimeOrderedId;
 
 @Getter
 @Entity
@@ -12,7 +13,7 @@ import org.example.expert.domain.common.entity.Timestamped;
 public class ManagerLog extends Timestamped {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     private Long requestUserId;
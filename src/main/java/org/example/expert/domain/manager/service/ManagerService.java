@@ -54,6 +54,7 @@ public class ManagerService {
 
             Manager newManagerUser = new Manager(managerUser, todo);
             Manager savedManagerUser = managerRepository.save(newManagerUser);
+            todoRepository.addManagerCount(todo.getId(), 1);
 
             // 성공 로그 저장
             managerLogService.saveSuccessLog(user.getId(), todoId, targetManagerUserId);
@@ -109,5 +110,6 @@ public class ManagerService {
         }
 
         managerRepository.delete(manager);
+        todoRepository.addManagerCount(todo.getId(), -1);
     }
 }
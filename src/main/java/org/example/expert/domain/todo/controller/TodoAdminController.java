@@ -0,0 +1,20 @@
+package org.example.expert.domain.todo.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.service.TodoCountReconciler;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoAdminController {
+
+    private final TodoCountReconciler todoCountReconciler;
+
+    // 담당자/댓글 개수를 즉시 재계산한다. 처리된 todo 수를 돌려준다
+    @PostMapping("/admin/todos/counts/reconcile")
+    public ResponseEntity<Integer> reconcileCounts() {
+        return ResponseEntity.ok(todoCountReconciler.reconcileAll());
+    }
+}
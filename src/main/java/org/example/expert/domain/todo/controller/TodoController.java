@@ -4,16 +4,23 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.service.TodoDetailService;
+import org.example.expert.domain.todo.service.TodoExportService;
 import org.example.expert.domain.todo.service.TodoService;
 import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -22,7 +29,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class TodoController {
 
+    private static final int MAX_CURSOR_SIZE = 100;
+
     private final TodoService todoService;
+    private final TodoExportService todoExportService;
+    private final TodoDetailService todoDetailService;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -40,11 +51,51 @@ public class TodoController {
         return ResponseEntity.ok(todoService.getTodos(page, size));
     }
 
+    // cursor 파라미터가 있으면 키셋 방식으로 조회한다. 첫 페이지는 빈 값(cursor=)으로 요청
+    @GetMapping(value = "/todos", params = "cursor")
+    public ResponseEntity<TodoCursorResponse> getTodosByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        if (size < 1 || size > MAX_CURSOR_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + MAX_CURSOR_SIZE + " 이하여야 합니다.");
+        }
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size));
+    }
+
+    // 조건에 맞는 todo 전체를 NDJSON(기본) 또는 CSV 로 스트리밍한다
+    @GetMapping("/todos/export")
+    public ResponseEntity<StreamingResponseBody> exportTodos(
+            @RequestParam(defaultValue = TodoExportService.NDJSON) String format,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) String managerNickname,
+            @RequestParam(required = false) String contents
+    ) {
+        String exportFormat = TodoExportService.resolveFormat(format);
+        TodoSearchRequest searchRequest = new TodoSearchRequest(title, startDate, endDate, managerNickname, contents);
+
+        return ResponseEntity.ok()
+                .contentType(TodoExportService.contentType(exportFormat))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"todos." + exportFormat + "\"")
+                .body(todoExportService.export(searchRequest, exportFormat));
+    }
+
     @GetMapping("/todos/{todoId}")
     public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
         return ResponseEntity.ok(todoService.getTodo(todoId));
     }
 
+    // todo, 작성자, 담당자, 댓글 첫 페이지를 한 번에 내려준다
+    @GetMapping("/todos/{todoId}/full")
+    public ResponseEntity<TodoDetailResponse> getTodoDetail(
+            @PathVariable long todoId,
+            @RequestParam(defaultValue = "20") int commentSize
+    ) {
+        return ResponseEntity.ok(todoDetailService.getTodoDetail(todoId, commentSize));
+    }
+
     @GetMapping("/todos/search")
     public ResponseEntity<List<TodoResponse>> searchTodos(
             @RequestParam(required = false) String weather,
@@ -60,10 +111,11 @@ public class TodoController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
             @RequestParam(required = false) String managerNickname,
+            @RequestParam(required = false) String contents,
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int size
     ) {
-        TodoSearchRequest searchRequest = new TodoSearchRequest(title, startDate, endDate, managerNickname);
+        TodoSearchRequest searchRequest = new TodoSearchRequest(title, startDate, endDate, managerNickname, contents);
 
         return ResponseEntity.ok(todoService.searchTodosWithProjections(searchRequest, page, size));
     }
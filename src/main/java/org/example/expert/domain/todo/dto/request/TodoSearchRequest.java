@@ -22,4 +22,6 @@ public class TodoSearchRequest {
     private LocalDateTime endDate;
 
     private String managerNickname;
+
+    private String contents;
 }
@@ -0,0 +1,26 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+
+import java.util.List;
+
+@Getter
+public class TodoDetailResponse {
+
+    private final TodoResponse todo;
+    private final List<ManagerResponse> managers;
+    // 첫 페이지만 담는다. 나머지는 GET /todos/{todoId}/comments 로 읽는다
+    private final List<CommentResponse> comments;
+    private final long commentCount;
+    private final boolean hasMoreComments;
+
+    public TodoDetailResponse(TodoResponse todo, List<ManagerResponse> managers, List<CommentResponse> comments, long commentCount) {
+        this.todo = todo;
+        this.managers = managers;
+        this.comments = comments;
+        this.commentCount = commentCount;
+        this.hasMoreComments = commentCount > comments.size();
+    }
+}
@@ -5,8 +5,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
+import org.example.expert.domain.common.id.TimeOrderedId;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.user.entity.User;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,14 +16,29 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+        // 커서 페이지네이션 정렬 순서와 같은 복합 인덱스
+        @Index(name = "idx_todo_modified_at_id", columnList = "modifiedAt, id"),
+        // 검색의 생성일 범위 조건과 (createdAt, id) 정렬용
+        @Index(name = "idx_todo_created_at_id", columnList = "createdAt, id"),
+        // 날씨 검색과 날씨 보강 대기(weather IS NULL) 조회용
+        @Index(name = "idx_todo_weather", columnList = "weather")
+})
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @TimeOrderedId
     private Long id;
     private String title;
     private String contents;
+    // 비동기 보강 모드에서는 날씨가 채워지기 전까지 null
     private String weather;
+    // 검색 때마다 집계하지 않도록 유지하는 개수. 변경은 TodoRepository 의 원자적 UPDATE 로만 한다
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long managerCount;
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long commentCount;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
@@ -39,5 +56,6 @@ public class Todo extends Timestamped {
         this.weather = weather;
         this.user = user;
         this.managers.add(new Manager(user, this));
+        this.managerCount = 1;
     }
 }
@@ -0,0 +1,26 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.entity.Timestamped;
+
+// 재시도를 다 쓰고도 날씨를 채우지 못한 todo. 복구 대상에서 빠지며 원인 확인 후 수동으로 처리한다
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "todo_weather_failures")
+public class TodoWeatherFailure extends Timestamped {
+
+    @Id
+    private Long todoId;
+    private int attempts;
+    @Column(length = 500)
+    private String reason;
+
+    public TodoWeatherFailure(Long todoId, int attempts, String reason) {
+        this.todoId = todoId;
+        this.attempts = attempts;
+        this.reason = reason != null && reason.length() > 500 ? reason.substring(0, 500) : reason;
+    }
+}
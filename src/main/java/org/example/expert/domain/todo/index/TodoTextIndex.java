@@ -0,0 +1,260 @@
+package org.example.expert.domain.todo.index;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// todo 제목/내용의 역색인. 단어마다 글자 1-gram 과 2-gram 을 키로, todo id 목록을 값으로 가진다.
+// 형태소 분석 없이 음절 단위로 자르므로 한글도 부분 문자열 검색이 된다.
+// 조회 결과는 후보일 뿐이며 실제 일치 여부는 DB 의 LIKE 조건이 다시 확인한다
+@Slf4j
+@Component
+public class TodoTextIndex {
+
+    public enum Field {
+        TITLE('t'), CONTENTS('c');
+
+        private final char prefix;
+
+        Field(char prefix) {
+            this.prefix = prefix;
+        }
+    }
+
+    private final Map<String, Posting> postings = new ConcurrentHashMap<>();
+    private final AtomicLong postingCount = new AtomicLong();
+    private final long maxPostings;
+    private final int maxCandidates;
+
+    private volatile boolean ready = false;
+    private volatile boolean disabled = false;
+
+    public TodoTextIndex(
+            @Value("${todo.text-index.max-postings:50000000}") long maxPostings,
+            @Value("${todo.text-index.max-candidates:5000}") int maxCandidates,
+            MeterRegistry meterRegistry
+    ) {
+        this.maxPostings = maxPostings;
+        this.maxCandidates = maxCandidates;
+
+        Gauge.builder("todo.text.index.postings", postingCount, AtomicLong::get)
+                .description("역색인에 담긴 (키, todo id) 쌍의 수")
+                .register(meterRegistry);
+        Gauge.builder("todo.text.index.keys", postings, Map::size)
+                .register(meterRegistry);
+    }
+
+    public void add(Long id, String title, String contents) {
+        if (disabled || id == null) {
+            return;
+        }
+
+        addField(Field.TITLE, id, title);
+        addField(Field.CONTENTS, id, contents);
+
+        // 메모리 상한을 넘으면 인덱스를 비우고 DB 검색으로 되돌린다
+        if (postingCount.get() > maxPostings) {
+            disable();
+        }
+    }
+
+    public void markReady() {
+        if (!disabled) {
+            ready = true;
+        }
+    }
+
+    // 검색어를 포함할 수 있는 todo id 를 오름차순으로 돌려준다.
+    // 인덱스를 쓸 수 없거나 후보가 너무 많아 이득이 없으면 null
+    public long[] candidates(Field field, String query) {
+        if (!ready || disabled || !StringUtils.hasText(query)) {
+            return null;
+        }
+
+        Set<String> grams = queryGrams(query);
+        if (grams.isEmpty()) {
+            return null;
+        }
+
+        List<Posting> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            Posting posting = postings.get(key(field, gram));
+            if (posting == null) {
+                return new long[0];
+            }
+            lists.add(posting);
+        }
+
+        // 가장 짧은 목록에서 출발해 나머지 목록과 교집합을 구한다
+        Posting shortest = lists.get(0);
+        for (Posting posting : lists) {
+            if (posting.size() < shortest.size()) {
+                shortest = posting;
+            }
+        }
+        // 가장 짧은 목록도 상한을 넘으면 복사하지 않고 바로 포기한다. 한 글자나 흔한 글자 쌍 검색마다
+        // 큰 배열을 복사하는 일을 막는 대신, 교집합이 작았을 경우에도 LIKE 검색으로 넘어간다
+        if (shortest.size() > maxCandidates) {
+            return null;
+        }
+        long[] result = shortest.snapshot();
+        for (Posting posting : lists) {
+            if (result.length == 0) {
+                break;
+            }
+            if (posting != shortest) {
+                result = posting.retain(result);
+            }
+        }
+
+        return result.length > maxCandidates ? null : result;
+    }
+
+    public boolean isReady() {
+        return ready && !disabled;
+    }
+
+    private void addField(Field field, long id, String text) {
+        for (String gram : grams(text)) {
+            Posting posting = postings.computeIfAbsent(key(field, gram), k -> new Posting());
+            if (posting.add(id)) {
+                postingCount.incrementAndGet();
+            }
+        }
+    }
+
+    private synchronized void disable() {
+        if (disabled) {
+            return;
+        }
+        disabled = true;
+        ready = false;
+        postings.clear();
+        postingCount.set(0);
+        log.warn("todo 텍스트 인덱스가 메모리 상한({}건)을 넘어 비활성화되었습니다. 검색은 DB 로 처리합니다.", maxPostings);
+    }
+
+    private String key(Field field, String gram) {
+        return field.prefix + gram;
+    }
+
+    // 색인 대상: 단어마다 모든 1-gram 과 2-gram
+    static Set<String> grams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int[] word : words(text)) {
+            for (int i = 0; i < word.length; i++) {
+                grams.add(new String(word, i, 1));
+                if (i + 1 < word.length) {
+                    grams.add(new String(word, i, 2));
+                }
+            }
+        }
+        return grams;
+    }
+
+    // 검색어: 한 글자 단어는 1-gram, 그 외에는 2-gram 만 사용한다
+    static Set<String> queryGrams(String query) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int[] word : words(query)) {
+            if (word.length == 1) {
+                grams.add(new String(word, 0, 1));
+                continue;
+            }
+            for (int i = 0; i + 1 < word.length; i++) {
+                grams.add(new String(word, i, 2));
+            }
+        }
+        return grams;
+    }
+
+    // 전각/반각 통일(NFKC), 악센트 제거, 소문자화 후 글자나 숫자가 아닌 문자로 단어를 나눈다.
+    // NFD 로 분해된 한글 자모는 악센트가 아니므로 NFC 에서 다시 음절로 합쳐진다
+    private static List<int[]> words(String text) {
+        List<int[]> words = new ArrayList<>();
+        if (!StringUtils.hasText(text)) {
+            return words;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC);
+        normalized = Normalizer.normalize(normalized, Normalizer.Form.NFD).replaceAll("\\p{M}+", "");
+        normalized = Normalizer.normalize(normalized, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+
+        int[] codePoints = normalized.codePoints().toArray();
+        int start = -1;
+        for (int i = 0; i <= codePoints.length; i++) {
+            boolean letter = i < codePoints.length && Character.isLetterOrDigit(codePoints[i]);
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                words.add(Arrays.copyOfRange(codePoints, start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    // 정렬된 todo id 목록. id 는 대부분 증가하는 순서로 들어오므로 뒤에 붙이는 경우가 대부분이다
+    private static final class Posting {
+
+        private long[] ids = new long[2];
+        private int size;
+
+        private synchronized boolean add(long id) {
+            if (size > 0 && ids[size - 1] >= id) {
+                int position = Arrays.binarySearch(ids, 0, size, id);
+                if (position >= 0) {
+                    return false;
+                }
+                ensureCapacity();
+                int insertAt = -position - 1;
+                System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+                ids[insertAt] = id;
+                size++;
+                return true;
+            }
+
+            ensureCapacity();
+            ids[size++] = id;
+            return true;
+        }
+
+        private synchronized long[] snapshot() {
+            return Arrays.copyOf(ids, size);
+        }
+
+        private synchronized long[] retain(long[] candidates) {
+            long[] result = new long[candidates.length];
+            int count = 0;
+            for (long candidate : candidates) {
+                if (Arrays.binarySearch(ids, 0, size, candidate) >= 0) {
+                    result[count++] = candidate;
+                }
+            }
+            return Arrays.copyOf(result, count);
+        }
+
+        private synchronized int size() {
+            return size;
+        }
+
+        private void ensureCapacity() {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, ids.length + (ids.length >> 1) + 1);
+            }
+        }
+    }
+}
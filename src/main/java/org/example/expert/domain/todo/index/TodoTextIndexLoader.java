@@ -0,0 +1,99 @@
+package org.example.expert.domain.todo.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.id.TimeOrderedIdGenerator;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// todos 테이블을 id 순서로 청크 단위로 읽어 텍스트 인덱스를 채우고, 이후 최근에 생긴 todo 를 주기적으로 반영한다.
+// id 는 커밋 시각이 아니라 저장 시각에 정해지므로 늦게 커밋된 행은 이미 읽은 id 보다 작을 수 있다.
+// 그래서 매번 overlap-ms 만큼 되돌아가 다시 읽고, 그 구간부터는 인덱스가 빠뜨렸을 수 있다고 보고 indexedBelowId 로 알린다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoTextIndexLoader {
+
+    private final TodoRepository todoRepository;
+    private final TodoTextIndex todoTextIndex;
+
+    @Value("${todo.text-index.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${todo.text-index.overlap-ms:60000}")
+    private long overlapMs;
+
+    private long lastSeenId = 0L;
+    // 이 값보다 작은 id 의 todo 는 모두 인덱스에 들어 있다
+    private volatile long indexedBelowId = 0L;
+    private volatile boolean loaded = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void loadAll() {
+        long startTime = System.currentTimeMillis();
+
+        long count = loadAfter(lastSeenId);
+        indexedBelowId = TimeOrderedIdGenerator.lowestIdAt(startTime - overlapMs);
+        todoTextIndex.markReady();
+        loaded = true;
+
+        log.info("todo 텍스트 인덱스 적재 완료 - {}건, 소요시간: {}ms", count, System.currentTimeMillis() - startTime);
+    }
+
+    // 다른 노드에서 생성된 todo 를 반영
+    @Scheduled(fixedDelayString = "${todo.text-index.refresh-interval-ms:5000}")
+    public synchronized void refresh() {
+        if (!loaded) {
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        long floorId = TimeOrderedIdGenerator.lowestIdAt(startTime - overlapMs);
+        long count = loadAfter(Math.min(lastSeenId, floorId));
+        indexedBelowId = floorId;
+        if (count > 0) {
+            log.debug("todo 텍스트 인덱스 증분 반영 - {}건 (겹쳐 읽은 행 포함)", count);
+        }
+    }
+
+    // 이 노드에서 생성된 todo 는 즉시 반영. 롤백되더라도 후보에만 남고 DB 조건에서 걸러진다
+    public void register(Todo todo) {
+        todoTextIndex.add(todo.getId(), todo.getTitle(), todo.getContents());
+    }
+
+    public long getIndexedBelowId() {
+        return indexedBelowId;
+    }
+
+    private long loadAfter(long fromId) {
+        long cursor = fromId;
+        long count = 0;
+
+        while (true) {
+            List<TodoTextRow> rows = todoRepository.findTextRowsAfterId(cursor, PageRequest.of(0, chunkSize));
+            if (rows.isEmpty()) {
+                return count;
+            }
+
+            for (TodoTextRow row : rows) {
+                todoTextIndex.add(row.getId(), row.getTitle(), row.getContents());
+            }
+
+            cursor = rows.get(rows.size() - 1).getId();
+            lastSeenId = Math.max(lastSeenId, cursor);
+            count += rows.size();
+
+            if (rows.size() < chunkSize) {
+                return count;
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.expert.domain.todo.index;
+
+import lombok.Getter;
+
+// 텍스트 인덱스 적재용 최소 컬럼
+@Getter
+public class TodoTextRow {
+
+    private final Long id;
+    private final String title;
+    private final String contents;
+
+    public TodoTextRow(Long id, String title, String contents) {
+        this.id = id;
+        this.title = title;
+        this.contents = contents;
+    }
+}
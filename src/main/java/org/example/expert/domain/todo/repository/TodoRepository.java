@@ -1,14 +1,18 @@
 package org.example.expert.domain.todo.repository;
 
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.index.TodoTextRow;
+import org.example.expert.domain.todo.weather.PendingWeatherRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,4 +36,40 @@ public interface TodoRepository extends JpaRepository<Todo, Long>, TodoRepositor
                                                  @Param("startDate") LocalDateTime startDate,
                                                  @Param("endDate") LocalDateTime endDate);
 
+    // 동시에 여러 요청이 와도 값이 유실되지 않도록 DB 에서 원자적으로 더한다
+    @Modifying
+    @Query("UPDATE Todo t SET t.managerCount = t.managerCount + :delta WHERE t.id = :todoId")
+    int addManagerCount(@Param("todoId") Long todoId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE Todo t SET t.commentCount = t.commentCount + :delta WHERE t.id = :todoId")
+    int addCommentCount(@Param("todoId") Long todoId, @Param("delta") long delta);
+
+    // 텍스트 인덱스 적재용. 엔티티 대신 필요한 컬럼만 id 순서로 읽는다
+    @Query("SELECT new org.example.expert.domain.todo.index.TodoTextRow(t.id, t.title, t.contents) " +
+            "FROM Todo t WHERE t.id > :lastId ORDER BY t.id")
+    List<TodoTextRow> findTextRowsAfterId(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 날씨 비동기 보강. 이미 값이 있는 행은 건드리지 않으므로 여러 노드가 같은 todo 를 처리해도 안전하다
+    @Modifying
+    @Query("UPDATE Todo t SET t.weather = :weather WHERE t.id IN :ids AND t.weather IS NULL")
+    int updatePendingWeather(@Param("ids") Collection<Long> ids, @Param("weather") String weather);
+
+    // 재기동 등으로 큐에서 사라진 보강 대상을 다시 찾는다. 실패 기록이 남은 todo 는 제외한다
+    @Query("SELECT new org.example.expert.domain.todo.weather.PendingWeatherRow(t.id, t.createdAt) " +
+            "FROM Todo t WHERE t.weather IS NULL AND t.id > :lastId " +
+            "AND NOT EXISTS (SELECT 1 FROM TodoWeatherFailure f WHERE f.todoId = t.id) ORDER BY t.id")
+    List<PendingWeatherRow> findPendingWeatherRowsAfterId(@Param("lastId") Long lastId, Pageable pageable);
+
+    // id 가 시간 기반이라 연속적이지 않으므로 실제 id 를 청크 단위로 읽어 구간을 나눈다
+    @Query("SELECT t.id FROM Todo t WHERE t.id > :lastId ORDER BY t.id")
+    List<Long> findIdsAfterId(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 구간 단위로 실제 행 수를 다시 세어 맞춘다
+    @Modifying
+    @Query("UPDATE Todo t SET " +
+            "t.managerCount = (SELECT COUNT(m) FROM Manager m WHERE m.todo.id = t.id), " +
+            "t.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.todo.id = t.id) " +
+            "WHERE t.id >= :fromId AND t.id < :toId")
+    int reconcileCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
@@ -1,15 +1,28 @@
 package org.example.expert.domain.todo.repository;
 
+import org.example.expert.domain.todo.dto.request.TodoCursor;
 import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface TodoRepositoryCustom {
     Optional<Todo> findByIdWithUser(Long todoId);
 
     Page<TodoSearchResponse> searchTodos(TodoSearchRequest searchRequest, Pageable pageable);
+
+    // candidateIds 가 null 이 아니면 그 안에서만 찾는다. 단 indexedBelowId 가 있으면 후보는 그보다 작은 id 에 대해서만 완전하므로
+    // 그 이상의 id 는 후보와 관계없이 검색 조건으로 직접 확인한다
+    Page<TodoSearchResponse> searchTodos(TodoSearchRequest searchRequest, Collection<Long> candidateIds, Long indexedBelowId, Pageable pageable);
+
+    List<Todo> findTodosByCursor(TodoCursor cursor, int limit);
+
+    // 내보내기용. 전체를 리스트로 만들지 않고 한 건씩 consumer 에 넘긴다
+    void scrollTodos(TodoSearchRequest searchRequest, int fetchSize, Consumer<Todo> consumer);
 }
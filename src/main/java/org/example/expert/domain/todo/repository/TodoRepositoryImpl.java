@@ -2,30 +2,38 @@ package org.example.expert.domain.todo.repository;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
-import org.example.expert.domain.comment.entity.QComment;
 import org.example.expert.domain.manager.entity.QManager;
+import org.example.expert.domain.todo.dto.request.TodoCursor;
 import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
 import org.example.expert.domain.todo.entity.QTodo;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.user.entity.QUser;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.query.Query;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Repository
 @RequiredArgsConstructor
 public class TodoRepositoryImpl implements TodoRepositoryCustom {
 
     private final JPAQueryFactory jpaQueryFactory;
+    private final EntityManager entityManager;
 
     @Override
     public Optional<Todo> findByIdWithUser(Long todoId) {
@@ -41,11 +49,59 @@ public class TodoRepositoryImpl implements TodoRepositoryCustom {
         return Optional.ofNullable(result);
     }
 
+    // 담당자/댓글 수는 todos 에 유지되는 컬럼을 그대로 읽으므로 하위 테이블을 조인하거나 집계하지 않는다
     @Override
     public Page<TodoSearchResponse> searchTodos(TodoSearchRequest searchRequest, Pageable pageable) {
+        return searchTodos(searchRequest, null, null, pageable);
+    }
+
+    // 텍스트 인덱스가 준 후보 id 로 먼저 좁히면 LIKE 는 기본 키로 찾은 행에만 적용된다
+    @Override
+    public Page<TodoSearchResponse> searchTodos(TodoSearchRequest searchRequest, Collection<Long> candidateIds, Long indexedBelowId, Pageable pageable) {
+        QTodo qTodo = QTodo.todo;
+
+        if (candidateIds != null && candidateIds.isEmpty() && indexedBelowId == null) {
+            return Page.empty(pageable);
+        }
+
+        BooleanBuilder builder = searchCondition(searchRequest);
+        if (candidateIds != null) {
+            if (indexedBelowId == null) {
+                builder.and(qTodo.id.in(candidateIds));
+            } else if (candidateIds.isEmpty()) {
+                builder.and(qTodo.id.goe(indexedBelowId));
+            } else {
+                // 아직 인덱스에 반영되지 않았을 수 있는 최근 구간은 LIKE 로 직접 확인한다. 둘 다 기본 키 범위라 인덱스를 탄다
+                builder.and(qTodo.id.in(candidateIds).or(qTodo.id.goe(indexedBelowId)));
+            }
+        }
+
+        List<TodoSearchResponse> results = jpaQueryFactory
+                .select(Projections.constructor(TodoSearchResponse.class,
+                        qTodo.title,
+                        qTodo.managerCount,
+                        qTodo.commentCount
+                ))
+                .from(qTodo)
+                .where(builder)
+                .orderBy(qTodo.createdAt.desc(), qTodo.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        // 카운트 쿼리도 조인 없이 todos 만 센다. 마지막 페이지처럼 필요 없으면 생략된다
+        JPAQuery<Long> countQuery = jpaQueryFactory
+                .select(qTodo.count())
+                .from(qTodo)
+                .where(builder);
+
+        return PageableExecutionUtils.getPage(results, pageable, countQuery::fetchOne);
+    }
+
+    private BooleanBuilder searchCondition(TodoSearchRequest searchRequest) {
         QTodo qTodo = QTodo.todo;
         QManager qManager = QManager.manager;
-        QComment qComment = QComment.comment;
+        QUser qUser = QUser.user;
 
         // 동적 조건 생성
         BooleanBuilder builder = new BooleanBuilder();
@@ -55,6 +111,11 @@ public class TodoRepositoryImpl implements TodoRepositoryCustom {
             builder.and(qTodo.title.containsIgnoreCase(searchRequest.getTitle()));
         }
 
+        // 내용 부분 검색
+        if (StringUtils.hasText(searchRequest.getContents())) {
+            builder.and(qTodo.contents.containsIgnoreCase(searchRequest.getContents()));
+        }
+
         // 생성일 범위 검색
         if (searchRequest.getStartDate() != null && searchRequest.getEndDate() != null) {
             builder.and(qTodo.createdAt.between(searchRequest.getStartDate(), searchRequest.getEndDate()));
@@ -64,57 +125,66 @@ public class TodoRepositoryImpl implements TodoRepositoryCustom {
             builder.and(qTodo.createdAt.loe(searchRequest.getEndDate()));
         }
 
-        // 담당자 닉네임 부분 검색
+        // 담당자 닉네임 부분 검색 - 조인 대신 EXISTS 로 걸러 todo 행이 중복되지 않게 한다
         if (StringUtils.hasText(searchRequest.getManagerNickname())) {
-            builder.and(qManager.user.nickname.containsIgnoreCase(searchRequest.getManagerNickname()));
+            builder.and(JPAExpressions.selectOne()
+                    .from(qManager)
+                    .join(qManager.user, qUser)
+                    .where(qManager.todo.id.eq(qTodo.id),
+                            qUser.nickname.containsIgnoreCase(searchRequest.getManagerNickname()))
+                    .exists());
         }
 
-        // 메인 쿼리 - Projections 사용
-        JPAQuery<TodoSearchResponse> query = jpaQueryFactory
-                .select(Projections.constructor(TodoSearchResponse.class,
-                        qTodo.title,
-                        qManager.countDistinct().as("managerCount"),
-                        qComment.countDistinct().as("commentCount")
-                ))
-                .from(qTodo);
+        return builder;
+    }
 
-        // 담당자 닉네임 검색이 있으면
-        if (StringUtils.hasText(searchRequest.getManagerNickname())) {
-            query.join(qTodo.managers, qManager);
-        } else {
-            query.leftJoin(qTodo.managers, qManager);
-        }
+    // 검색 조건에 맞는 todo 를 id 순서로 서버 측 커서에서 fetchSize 개씩 받아 하나씩 넘긴다.
+    // 넘긴 뒤에는 영속성 컨텍스트에서 떼어내므로 전체 건수와 무관하게 메모리가 일정하다. 트랜잭션 안에서 호출해야 한다
+    @Override
+    @SuppressWarnings("unchecked")
+    public void scrollTodos(TodoSearchRequest searchRequest, int fetchSize, Consumer<Todo> consumer) {
+        QTodo qTodo = QTodo.todo;
+        QUser qUser = QUser.user;
 
-        query.leftJoin(qTodo.comments, qComment)
-                .where(builder)
-                .groupBy(qTodo.id, qTodo.title)
-                .orderBy(qTodo.createdAt.desc());
+        Query<Todo> query = jpaQueryFactory
+                .selectFrom(qTodo)
+                .join(qTodo.user, qUser).fetchJoin()
+                .where(searchCondition(searchRequest))
+                .orderBy(qTodo.id.asc())
+                .createQuery()
+                .unwrap(Query.class);
+        query.setFetchSize(fetchSize);
+        query.setReadOnly(true);
+
+        try (ScrollableResults<Todo> results = query.scroll(ScrollMode.FORWARD_ONLY)) {
+            while (results.next()) {
+                Todo todo = results.get();
+                consumer.accept(todo);
+                entityManager.detach(todo);
+                entityManager.detach(todo.getUser());
+            }
+        }
+    }
 
-        // 카운트 쿼리
-        JPAQuery<Long> countQuery = jpaQueryFactory
-                .select(qTodo.countDistinct())
-                .from(qTodo);
+    // (modifiedAt, id) 복합 인덱스를 따라 커서 이후 행만 읽는다. offset 과 count 쿼리가 없어 깊이와 무관하다
+    @Override
+    public List<Todo> findTodosByCursor(TodoCursor cursor, int limit) {
+        QTodo qTodo = QTodo.todo;
+        QUser qUser = QUser.user;
 
-        // 담당자 닉네임 검색이 있으면
-        if (StringUtils.hasText(searchRequest.getManagerNickname())) {
-            countQuery.join(qTodo.managers, qManager);
-        } else {
-            countQuery.leftJoin(qTodo.managers, qManager);
+        BooleanBuilder builder = new BooleanBuilder();
+        if (cursor != null) {
+            // 선두 컬럼에 범위 조건을 따로 두어야 OR 가 있어도 인덱스 범위 스캔이 된다
+            builder.and(qTodo.modifiedAt.loe(cursor.getModifiedAt()))
+                    .and(qTodo.modifiedAt.lt(cursor.getModifiedAt()).or(qTodo.id.lt(cursor.getId())));
         }
 
-        countQuery.where(builder);
-
-        // 페이징 적용
-        List<TodoSearchResponse> results = query
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+        return jpaQueryFactory
+                .selectFrom(qTodo)
+                .leftJoin(qTodo.user, qUser).fetchJoin()
+                .where(builder)
+                .orderBy(qTodo.modifiedAt.desc(), qTodo.id.desc())
+                .limit(limit)
                 .fetch();
-
-        Long total = countQuery.fetchOne();
-        if (total == null) total = 0L;
-
-        return new PageImpl<>(results, pageable, total);
-
     }
-
 }
@@ -0,0 +1,7 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.entity.TodoWeatherFailure;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TodoWeatherFailureRepository extends JpaRepository<TodoWeatherFailure, Long> {
+}
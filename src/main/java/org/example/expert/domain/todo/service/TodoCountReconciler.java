@@ -0,0 +1,59 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// todos 의 managerCount / commentCount 를 실제 행 수로 다시 맞춘다.
+// 잠금 시간이 길어지지 않도록 id 구간마다 별도 트랜잭션으로 나눠 처리한다
+@Slf4j
+@Service
+public class TodoCountReconciler {
+
+    private final TodoRepository todoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public TodoCountReconciler(
+            TodoRepository todoRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${todo.count-reconcile.chunk-size:1000}") int chunkSize
+    ) {
+        this.todoRepository = todoRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${todo.count-reconcile.cron:0 30 3 * * *}")
+    public synchronized int reconcileAll() {
+        long startTime = System.currentTimeMillis();
+        int updated = 0;
+        long lastId = 0L;
+        while (true) {
+            List<Long> ids = todoRepository.findIdsAfterId(lastId, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            long from = ids.get(0);
+            long to = ids.get(ids.size() - 1) + 1;
+            Integer count = transactionTemplate.execute(status -> todoRepository.reconcileCounts(from, to));
+            updated += count == null ? 0 : count;
+
+            lastId = to - 1;
+            if (ids.size() < chunkSize) {
+                break;
+            }
+        }
+
+        log.info("todo 개수 재계산 완료 - {}건, 소요시간: {}ms", updated, System.currentTimeMillis() - startTime);
+        return updated;
+    }
+}
@@ -0,0 +1,199 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// todo, 작성자, 담당자, 댓글 첫 페이지를 한 번의 요청으로 모은다.
+// 담당자와 댓글은 서로 독립이므로 전용 풀에서 각자의 트랜잭션(커넥션)으로 동시에 읽고,
+// 요청 스레드는 그동안 todo 를 읽는다. 전체가 timeout-ms 안에 끝나지 않으면 남은 조회를 취소하고 503 으로 실패한다
+@Slf4j
+@Service
+public class TodoDetailService {
+
+    private final TodoRepository todoRepository;
+    private final ManagerRepository managerRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+    private final int maxCommentSize;
+
+    private final Timer detailTimer;
+    private final Counter timeoutCounter;
+    private final Counter inlineCounter;
+
+    public TodoDetailService(
+            TodoRepository todoRepository,
+            ManagerRepository managerRepository,
+            CommentRepository commentRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${todo.detail.pool-size:4}") int poolSize,
+            @Value("${todo.detail.queue-capacity:64}") int queueCapacity,
+            @Value("${todo.detail.timeout-ms:2000}") long timeoutMs,
+            @Value("${todo.detail.max-comment-size:100}") int maxCommentSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.todoRepository = todoRepository;
+        this.managerRepository = managerRepository;
+        this.commentRepository = commentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        // 취소된 조회가 커넥션을 계속 붙잡지 않도록 쿼리 타임아웃도 함께 건다 (초 단위)
+        this.transactionTemplate.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutMs + 999)));
+        this.timeoutMs = timeoutMs;
+        this.maxCommentSize = maxCommentSize;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "todo-detail-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.detailTimer = Timer.builder("todo.detail.duration")
+                .description("todo 상세 조회 전체 소요 시간")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("todo.detail.timeout")
+                .description("제한 시간을 넘겨 실패한 todo 상세 조회 수")
+                .register(meterRegistry);
+        this.inlineCounter = Counter.builder("todo.detail.inline")
+                .description("풀이 가득 차 요청 스레드에서 순차 실행한 하위 조회 수")
+                .register(meterRegistry);
+        Gauge.builder("todo.detail.queue.size", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    public TodoDetailResponse getTodoDetail(long todoId, int commentSize) {
+        if (commentSize < 1 || commentSize > maxCommentSize) {
+            throw new InvalidRequestException("댓글 개수는 1 이상 " + maxCommentSize + " 이하여야 합니다.");
+        }
+
+        long startTime = System.nanoTime();
+        long deadline = startTime + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+
+        Future<List<ManagerResponse>> managers = submit(() -> loadManagers(todoId));
+        Future<List<CommentResponse>> comments = submit(() -> loadComments(todoId, commentSize));
+        try {
+            Todo todo = transactionTemplate.execute(status -> todoRepository.findByIdWithUser(todoId).orElse(null));
+            if (todo == null) {
+                throw new InvalidRequestException("Todo not found");
+            }
+
+            User user = todo.getUser();
+            TodoResponse todoResponse = new TodoResponse(
+                    todo.getId(),
+                    todo.getTitle(),
+                    todo.getContents(),
+                    todo.getWeather(),
+                    new UserResponse(user.getId(), user.getEmail()),
+                    todo.getCreatedAt(),
+                    todo.getModifiedAt()
+            );
+
+            return new TodoDetailResponse(todoResponse, await(managers, deadline), await(comments, deadline), todo.getCommentCount());
+        } finally {
+            // 실패했을 때 남은 조회를 멈춘다. 이미 끝난 작업에는 영향이 없다
+            managers.cancel(true);
+            comments.cancel(true);
+            detailTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private List<ManagerResponse> loadManagers(long todoId) {
+        List<ManagerResponse> dtoList = new ArrayList<>();
+        for (Manager manager : managerRepository.findByTodoIdWithUser(todoId)) {
+            User user = manager.getUser();
+            dtoList.add(new ManagerResponse(manager.getId(), new UserResponse(user.getId(), user.getEmail())));
+        }
+        return dtoList;
+    }
+
+    private List<CommentResponse> loadComments(long todoId, int commentSize) {
+        List<CommentResponse> dtoList = new ArrayList<>();
+        for (Comment comment : commentRepository.findPageByTodoIdWithUser(todoId, PageRequest.of(0, commentSize))) {
+            User user = comment.getUser();
+            dtoList.add(new CommentResponse(comment.getId(), comment.getContents(), new UserResponse(user.getId(), user.getEmail())));
+        }
+        return dtoList;
+    }
+
+    private <T> Future<T> submit(Supplier<T> query) {
+        Callable<T> task = () -> transactionTemplate.execute(status -> query.get());
+        try {
+            return executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            // 풀이 밀려 있으면 대기열에 쌓지 않고 요청 스레드에서 바로 실행한다 (순차 조회로 후퇴)
+            inlineCounter.increment();
+            FutureTask<T> future = new FutureTask<>(task);
+            future.run();
+            return future;
+        }
+    }
+
+    private <T> T await(Future<T> future, long deadline) {
+        try {
+            return future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            timeoutCounter.increment();
+            log.warn("todo 상세 조회 제한 시간 초과 - {}ms", timeoutMs);
+            // 코드 오류가 아니라 DB 가 밀린 상황이므로 500 이 아닌 503 으로 알려 재시도할 수 있게 한다
+            throw new ServiceUnavailableException("todo 상세 조회가 제한 시간(" + timeoutMs + "ms)을 넘었습니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("todo 상세 조회 중 인터럽트가 발생했습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ServerException("todo 상세 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
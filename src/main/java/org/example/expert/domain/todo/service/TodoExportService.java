@@ -0,0 +1,162 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.concurrent.Semaphore;
+
+// todo 를 NDJSON 또는 CSV 로 내려보낸다. DB 커서에서 읽은 행을 바로 응답 스트림에 쓰므로
+// 건수가 늘어도 힙 사용량이 늘지 않고, offset 페이지처럼 매번 정렬하지도 않는다.
+// 대신 내보내는 동안 커넥션을 계속 잡으므로 동시 실행 수를 max-concurrent 로 제한하고 넘치면 기다리지 않고 거절한다
+@Slf4j
+@Service
+public class TodoExportService {
+
+    public static final String NDJSON = "ndjson";
+    public static final String CSV = "csv";
+
+    private static final byte[] CSV_HEADER =
+            "id,title,contents,weather,userId,userEmail,createdAt,modifiedAt\n".getBytes(StandardCharsets.UTF_8);
+
+    private final TodoRepository todoRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int fetchSize;
+    private final Semaphore permits;
+
+    public TodoExportService(
+            TodoRepository todoRepository,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${todo.export.fetch-size:1000}") int fetchSize,
+            @Value("${todo.export.max-concurrent:2}") int maxConcurrent
+    ) {
+        this.todoRepository = todoRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.fetchSize = fetchSize;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    public static String resolveFormat(String format) {
+        String normalized = format == null ? NDJSON : format.toLowerCase(Locale.ROOT);
+        if (!NDJSON.equals(normalized) && !CSV.equals(normalized)) {
+            throw new InvalidRequestException("지원하지 않는 내보내기 형식입니다: " + format);
+        }
+        return normalized;
+    }
+
+    public static MediaType contentType(String format) {
+        return CSV.equals(format)
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : MediaType.APPLICATION_NDJSON;
+    }
+
+    public StreamingResponseBody export(TodoSearchRequest searchRequest, String format) {
+        // 응답 헤더를 보내기 전에 자리를 잡아야 429 로 돌려줄 수 있다. 반납은 스트리밍이 끝날 때 한다
+        if (!permits.tryAcquire()) {
+            throw new TooManyRequestsException("동시에 실행 중인 내보내기가 많습니다. 잠시 후 다시 시도해주세요.", 5);
+        }
+
+        return outputStream -> {
+            try {
+                writeAll(outputStream, searchRequest, format);
+            } finally {
+                permits.release();
+            }
+        };
+    }
+
+    private void writeAll(OutputStream outputStream, TodoSearchRequest searchRequest, String format) throws IOException {
+        long startTime = System.currentTimeMillis();
+        long[] count = {0};
+
+        // 응답을 쓰는 동안 커서가 열려 있어야 하므로 스트리밍 스레드에서 읽기 전용 트랜잭션을 연다
+        BufferedOutputStream out = new BufferedOutputStream(outputStream, 64 * 1024);
+        if (CSV.equals(format)) {
+            out.write(CSV_HEADER);
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    todoRepository.scrollTodos(searchRequest, fetchSize, todo -> {
+                        write(out, todo, format);
+                        count[0]++;
+                    }));
+        } catch (UncheckedIOException e) {
+            // 대부분 클라이언트가 연결을 끊은 경우
+            log.warn("todo 내보내기 중단 - {}건 전송 후 {}", count[0], e.getCause().getMessage());
+            throw e.getCause();
+        }
+        out.flush();
+
+        log.info("todo 내보내기 완료 - 형식: {}, {}건, 소요시간: {}ms", format, count[0], System.currentTimeMillis() - startTime);
+    }
+
+    private void write(OutputStream out, Todo todo, String format) {
+        try {
+            if (CSV.equals(format)) {
+                out.write(toCsvLine(todo).getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            TodoResponse response = new TodoResponse(
+                    todo.getId(),
+                    todo.getTitle(),
+                    todo.getContents(),
+                    todo.getWeather(),
+                    new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
+                    todo.getCreatedAt(),
+                    todo.getModifiedAt()
+            );
+            out.write(objectMapper.writeValueAsBytes(response));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String toCsvLine(Todo todo) {
+        return String.join(",",
+                String.valueOf(todo.getId()),
+                csv(todo.getTitle()),
+                csv(todo.getContents()),
+                csv(todo.getWeather()),
+                String.valueOf(todo.getUser().getId()),
+                csv(todo.getUser().getEmail()),
+                csv(todo.getCreatedAt()),
+                csv(todo.getModifiedAt())
+        ) + "\n";
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 안의 따옴표는 두 번 쓴다
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof LocalDateTime ? value.toString() : (String) value;
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -1,26 +1,37 @@
 package org.example.expert.domain.todo.service;
 
 import lombok.RequiredArgsConstructor;
-import org.example.expert.client.WeatherClient;
+import org.example.expert.client.WeatherProvider;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoCursor;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.index.TodoTextIndex;
+import org.example.expert.domain.todo.index.TodoTextIndexLoader;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.weather.TodoWeatherEnricher;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,13 +40,21 @@ import java.util.stream.Collectors;
 public class TodoService {
 
     private final TodoRepository todoRepository;
-    private final WeatherClient weatherClient;
+    private final WeatherProvider weatherProvider;
+    private final TodoTextIndex todoTextIndex;
+    private final TodoTextIndexLoader todoTextIndexLoader;
+    private final TodoWeatherEnricher todoWeatherEnricher;
+
+    @Value("${todo.weather-enrichment.async:false}")
+    private boolean asyncWeatherEnrichment;
 
     @Transactional
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
 
-        String weather = weatherClient.getTodayWeather();
+        // 비동기 모드에서는 날씨 없이 먼저 저장하고 커밋 뒤 보강 파이프라인이 채운다. 이때 응답의 weather 는 null 이다.
+        // 동기 모드도 메모리의 날씨 표만 조회하므로 쓰기 트랜잭션 안에서 원격 호출은 없다
+        String weather = asyncWeatherEnrichment ? null : weatherProvider.getTodayWeather();
 
         Todo newTodo = new Todo(
                 todoSaveRequest.getTitle(),
@@ -44,6 +63,10 @@ public class TodoService {
                 user
         );
         Todo savedTodo = todoRepository.save(newTodo);
+        todoTextIndexLoader.register(savedTodo);
+        if (asyncWeatherEnrichment) {
+            todoWeatherEnricher.enqueueAfterCommit(savedTodo.getId(), LocalDate.now());
+        }
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
@@ -70,6 +93,36 @@ public class TodoService {
         ));
     }
 
+    // 다음 페이지 존재 여부는 count 쿼리 대신 size + 1 건을 읽어 판단한다
+    public TodoCursorResponse getTodosByCursor(String cursor, int size) {
+        List<Todo> todos = todoRepository.findTodosByCursor(TodoCursor.decode(cursor), size + 1);
+
+        boolean hasNext = todos.size() > size;
+        if (hasNext) {
+            todos = todos.subList(0, size);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            Todo last = todos.get(todos.size() - 1);
+            nextCursor = new TodoCursor(last.getModifiedAt(), last.getId()).encode();
+        }
+
+        List<TodoResponse> content = todos.stream()
+                .map(todo -> new TodoResponse(
+                        todo.getId(),
+                        todo.getTitle(),
+                        todo.getContents(),
+                        todo.getWeather(),
+                        new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
+                        todo.getCreatedAt(),
+                        todo.getModifiedAt()
+                ))
+                .collect(Collectors.toList());
+
+        return new TodoCursorResponse(content, nextCursor, hasNext);
+    }
+
     public TodoResponse getTodo(long todoId) {
         Todo todo = todoRepository.findByIdWithUser(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
@@ -121,6 +174,29 @@ public class TodoService {
 
     public Page<TodoSearchResponse> searchTodosWithProjections(TodoSearchRequest searchRequest, int page, int size) {
         PageRequest pageable = PageRequest.of(page - 1, size);
-        return todoRepository.searchTodos(searchRequest, pageable);
+        return todoRepository.searchTodos(searchRequest, resolveCandidates(searchRequest), todoTextIndexLoader.getIndexedBelowId(), pageable);
+    }
+
+    // 제목/내용 검색어가 있으면 텍스트 인덱스에서 후보 id 를 먼저 구한다. 인덱스를 쓸 수 없으면 null
+    private List<Long> resolveCandidates(TodoSearchRequest searchRequest) {
+        long[] titleCandidates = todoTextIndex.candidates(TodoTextIndex.Field.TITLE, searchRequest.getTitle());
+        long[] contentsCandidates = todoTextIndex.candidates(TodoTextIndex.Field.CONTENTS, searchRequest.getContents());
+
+        if (titleCandidates == null && contentsCandidates == null) {
+            return null;
+        }
+
+        Set<Long> ids = new LinkedHashSet<>();
+        for (long id : titleCandidates != null ? titleCandidates : contentsCandidates) {
+            ids.add(id);
+        }
+        if (titleCandidates != null && contentsCandidates != null) {
+            Set<Long> contentsIds = new HashSet<>();
+            for (long id : contentsCandidates) {
+                contentsIds.add(id);
+            }
+            ids.retainAll(contentsIds);
+        }
+        return new ArrayList<>(ids);
     }
 }
@@ -0,0 +1,18 @@
+package org.example.expert.domain.todo.weather;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 날씨가 아직 비어 있는 todo 의 복구용 최소 컬럼
+@Getter
+public class PendingWeatherRow {
+
+    private final Long id;
+    private final LocalDateTime createdAt;
+
+    public PendingWeatherRow(Long id, LocalDateTime createdAt) {
+        this.id = id;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,228 @@
+package org.example.expert.domain.todo.weather;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherProvider;
+import org.example.expert.domain.todo.entity.TodoWeatherFailure;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoWeatherFailureRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+// 날씨 없이 저장된 todo 를 뒤에서 채운다.
+// 커밋된 todo 만 큐에 넣고, 주기적으로 모아서 날씨별 UPDATE 한 번으로 반영한다.
+// 실패하면 지수 백오프로 다시 시도하고, 최대 횟수를 넘기면 todo_weather_failures 에 남긴다
+@Slf4j
+@Component
+public class TodoWeatherEnricher {
+
+    private final TodoRepository todoRepository;
+    private final TodoWeatherFailureRepository failureRepository;
+    private final WeatherProvider weatherProvider;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffMs;
+
+    private final DelayQueue<Pending> queue = new DelayQueue<>();
+    private final Counter enrichedCounter;
+    private final Counter retryCounter;
+    private final Counter deadLetterCounter;
+
+    public TodoWeatherEnricher(
+            TodoRepository todoRepository,
+            TodoWeatherFailureRepository failureRepository,
+            WeatherProvider weatherProvider,
+            PlatformTransactionManager transactionManager,
+            @Value("${todo.weather-enrichment.batch-size:500}") int batchSize,
+            @Value("${todo.weather-enrichment.max-attempts:5}") int maxAttempts,
+            @Value("${todo.weather-enrichment.backoff-ms:1000}") long backoffMs,
+            MeterRegistry meterRegistry
+    ) {
+        this.todoRepository = todoRepository;
+        this.failureRepository = failureRepository;
+        this.weatherProvider = weatherProvider;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoffMs = backoffMs;
+
+        Gauge.builder("todo.weather.enrichment.pending", queue, DelayQueue::size)
+                .description("날씨 보강을 기다리는 todo 수")
+                .register(meterRegistry);
+        Gauge.builder("todo.weather.enrichment.lag.seconds", this, TodoWeatherEnricher::lagSeconds)
+                .description("가장 오래 기다린 보강 대상의 대기 시간")
+                .register(meterRegistry);
+        this.enrichedCounter = Counter.builder("todo.weather.enrichment.enriched").register(meterRegistry);
+        this.retryCounter = Counter.builder("todo.weather.enrichment.retried").register(meterRegistry);
+        this.deadLetterCounter = Counter.builder("todo.weather.enrichment.dead.letter").register(meterRegistry);
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤에 큐에 넣는다. 롤백된 todo 를 보강하려 하지 않기 위함
+    public void enqueueAfterCommit(Long todoId, LocalDate date) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    queue.add(new Pending(todoId, date, System.currentTimeMillis()));
+                }
+            });
+            return;
+        }
+        queue.add(new Pending(todoId, date, System.currentTimeMillis()));
+    }
+
+    // 큐는 메모리에만 있으므로 기동 시 날씨가 빈 todo 를 다시 찾아 넣는다
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        long lastId = 0L;
+        long count = 0;
+        long now = System.currentTimeMillis();
+        while (true) {
+            List<PendingWeatherRow> rows = todoRepository.findPendingWeatherRowsAfterId(lastId, PageRequest.of(0, batchSize));
+            if (rows.isEmpty()) {
+                break;
+            }
+            for (PendingWeatherRow row : rows) {
+                LocalDate date = row.getCreatedAt() != null ? row.getCreatedAt().toLocalDate() : LocalDate.now();
+                queue.add(new Pending(row.getId(), date, now));
+            }
+            lastId = rows.get(rows.size() - 1).getId();
+            count += rows.size();
+            if (rows.size() < batchSize) {
+                break;
+            }
+        }
+
+        if (count > 0) {
+            log.info("날씨 보강 대기 todo 복구 - {}건", count);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${todo.weather-enrichment.interval-ms:1000}")
+    public void enrich() {
+        List<Pending> batch = new ArrayList<>(Math.min(batchSize, 64));
+        Pending next;
+        while (batch.size() < batchSize && (next = queue.poll()) != null) {
+            batch.add(next);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // 같은 날짜는 같은 날씨이므로 날씨별로 묶어 UPDATE 횟수를 줄인다
+        Map<String, List<Pending>> byWeather = new HashMap<>();
+        List<Pending> failed = new ArrayList<>();
+        Map<Pending, String> reasons = new HashMap<>();
+        for (Pending pending : batch) {
+            try {
+                String weather = weatherProvider.getWeather(pending.date);
+                byWeather.computeIfAbsent(weather, key -> new ArrayList<>()).add(pending);
+            } catch (Exception e) {
+                failed.add(pending);
+                reasons.put(pending, e.getMessage());
+            }
+        }
+
+        for (Map.Entry<String, List<Pending>> entry : byWeather.entrySet()) {
+            List<Long> ids = entry.getValue().stream().map(pending -> pending.todoId).toList();
+            try {
+                transactionTemplate.executeWithoutResult(status -> todoRepository.updatePendingWeather(ids, entry.getKey()));
+                enrichedCounter.increment(ids.size());
+            } catch (Exception e) {
+                for (Pending pending : entry.getValue()) {
+                    failed.add(pending);
+                    reasons.put(pending, e.getMessage());
+                }
+            }
+        }
+
+        for (Pending pending : failed) {
+            retryOrDeadLetter(pending, reasons.get(pending));
+        }
+    }
+
+    private void retryOrDeadLetter(Pending pending, String reason) {
+        int attempts = pending.attempts + 1;
+        if (attempts < maxAttempts) {
+            // 1초, 2초, 4초 ... 간격으로 다시 시도
+            long delay = backoffMs << Math.min(attempts - 1, 16);
+            queue.add(pending.retry(attempts, System.currentTimeMillis() + delay));
+            retryCounter.increment();
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    failureRepository.save(new TodoWeatherFailure(pending.todoId, attempts, reason)));
+            deadLetterCounter.increment();
+            log.warn("todo 날씨 보강 실패 - todoId: {}, 시도 횟수: {}, 원인: {}", pending.todoId, attempts, reason);
+        } catch (Exception e) {
+            // 실패 기록도 남기지 못하면 기동 시 복구 대상으로 다시 잡힌다
+            log.error("todo 날씨 보강 실패 기록 저장 실패 - todoId: {}", pending.todoId, e);
+        }
+    }
+
+    private double lagSeconds() {
+        long oldest = Long.MAX_VALUE;
+        for (Pending pending : queue) {
+            oldest = Math.min(oldest, pending.enqueuedAt);
+        }
+        return oldest == Long.MAX_VALUE ? 0 : (System.currentTimeMillis() - oldest) / 1000.0;
+    }
+
+    private static final class Pending implements Delayed {
+
+        private final Long todoId;
+        private final LocalDate date;
+        // 처음 큐에 들어온 시각. 재시도해도 바뀌지 않아 지연 지표가 실제 대기 시간을 나타낸다
+        private final long enqueuedAt;
+        private final int attempts;
+        private final long availableAt;
+
+        private Pending(Long todoId, LocalDate date, long enqueuedAt) {
+            this(todoId, date, enqueuedAt, 0, 0L);
+        }
+
+        private Pending(Long todoId, LocalDate date, long enqueuedAt, int attempts, long availableAt) {
+            this.todoId = todoId;
+            this.date = date;
+            this.enqueuedAt = enqueuedAt;
+            this.attempts = attempts;
+            this.availableAt = availableAt;
+        }
+
+        private Pending retry(int attempts, long availableAt) {
+            return new Pending(todoId, date, enqueuedAt, attempts, availableAt);
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(availableAt - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(availableAt, ((Pending) other).availableAt);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.expert.domain.user.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.user.dto.response.UserAutocompleteResponse;
 import org.example.expert.domain.user.dto.response.UserSearchResponse;
 import org.example.expert.domain.user.service.UserSearchService;
 import org.springframework.data.domain.Page;
@@ -9,6 +10,8 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 public class UserSearchController {
@@ -32,4 +35,31 @@ public class UserSearchController {
     ) {
         return ResponseEntity.ok(userSearchService.searchUsersByNicknameLike(nickname, page, size));
     }
+
+    @GetMapping("/users/search/fuzzy")
+    public ResponseEntity<Page<UserSearchResponse>> searchUsersByNicknameFuzzy(
+            @RequestParam String nickname,
+            @RequestParam(defaultValue = "2") int distance,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(userSearchService.searchUsersByNicknameFuzzy(nickname, distance, page, size));
+    }
+
+    @GetMapping("/users/search/chosung")
+    public ResponseEntity<Page<UserSearchResponse>> searchUsersByChosung(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(userSearchService.searchUsersByChosung(query, page, size));
+    }
+
+    @GetMapping("/users/search/autocomplete")
+    public ResponseEntity<List<UserAutocompleteResponse>> autocompleteNickname(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(userSearchService.autocompleteNickname(prefix, size));
+    }
 }
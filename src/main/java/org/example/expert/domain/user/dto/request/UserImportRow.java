@@ -0,0 +1,20 @@
+package org.example.expert.domain.user.dto.request;
+
+import lombok.Getter;
+
+// 가져오기 입력 한 행. CSV 와 NDJSON 모두 이 형태로 읽는다
+@Getter
+public class UserImportRow {
+
+    private final String email;
+    private final String password;
+    private final String nickname;
+    private final String userRole;
+
+    public UserImportRow(String email, String password, String nickname, String userRole) {
+        this.email = email;
+        this.password = password;
+        this.nickname = nickname;
+        this.userRole = userRole;
+    }
+}
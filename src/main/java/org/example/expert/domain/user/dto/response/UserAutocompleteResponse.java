@@ -0,0 +1,14 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class UserAutocompleteResponse {
+    private final Long id;
+    private final String nickname;
+
+    public UserAutocompleteResponse(Long id, String nickname) {
+        this.id = id;
+        this.nickname = nickname;
+    }
+}
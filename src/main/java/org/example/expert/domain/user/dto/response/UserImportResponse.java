@@ -0,0 +1,29 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.user.entity.UserImportJob;
+import org.example.expert.domain.user.enums.UserImportStatus;
+
+@Getter
+public class UserImportResponse {
+
+    private final Long jobId;
+    private final UserImportStatus status;
+    private final long processedRows;
+    private final long importedRows;
+    private final long duplicateRows;
+    private final long invalidRows;
+    private final double rowsPerSecond;
+    private final String lastError;
+
+    public UserImportResponse(UserImportJob job) {
+        this.jobId = job.getId();
+        this.status = job.getStatus();
+        this.processedRows = job.getProcessedRows();
+        this.importedRows = job.getImportedRows();
+        this.duplicateRows = job.getDuplicateRows();
+        this.invalidRows = job.getInvalidRows();
+        this.rowsPerSecond = job.getRowsPerSecond();
+        this.lastError = job.getLastError();
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.expert.domain.user.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+// 닉네임 3-gram 역색인 테이블. 기본 키가 (trigram, user_id) 라서 같은 trigram 의 사용자 목록이 클러스터드 인덱스에 모여 있다
+@Getter
+@Entity
+@NoArgsConstructor
+@IdClass(NicknameTrigram.Key.class)
+@Table(name = "nickname_trigrams", indexes = {
+        @Index(name = "idx_nickname_trigram_user_id", columnList = "userId")
+})
+public class NicknameTrigram {
+
+    @Id
+    @Column(length = 3)
+    private String trigram;
+    @Id
+    private Long userId;
+
+    public NicknameTrigram(String trigram, Long userId) {
+        this.trigram = trigram;
+        this.userId = userId;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String trigram;
+        private Long userId;
+    }
+}
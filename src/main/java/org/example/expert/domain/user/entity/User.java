@@ -5,15 +5,26 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.entity.Timestamped;
+import org.example.expert.domain.common.id.TimeOrderedId;
 import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "users")
+// 거의 바뀌지 않는 행이라 id 조회를 2차 캐시(ehcache.xml 의 user 영역)에서 처리한다
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
+@Table(name = "users", indexes = {
+        // 닉네임 정확히 일치 검색과 접두어 자동완성용
+        @Index(name = "idx_user_nickname", columnList = "nickname"),
+        // 보안 버전 테이블 증분 동기화(modifiedAt >= since)용
+        @Index(name = "idx_user_modified_at", columnList = "modifiedAt")
+})
 public class User extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @TimeOrderedId
     private Long id;
     @Column(unique = true)
     private String email;
@@ -23,6 +34,10 @@ public class User extends Timestamped {
     @Column(length = 50)
     private String nickname;
     private String profileImageUrl;
+    // 권한이나 비밀번호가 바뀔 때마다 올라가며, 이전 버전으로 발급된 토큰은 거부된다
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long securityVersion;
 
     public User(String email, String password, UserRole userRole, String nickname) {
         this.email = email;
@@ -44,9 +59,23 @@ public class User extends Timestamped {
 
     public void changePassword(String password) {
         this.password = password;
+        this.securityVersion++;
+    }
+
+    // 같은 비밀번호를 새 cost 로 다시 해시한 것이라 보안 버전은 올리지 않는다.
+    // 읽은 뒤에 비밀번호가 바뀌었으면 바꾸지 않고 false
+    public boolean rehashPassword(String oldPassword, String newPassword) {
+        if (!this.password.equals(oldPassword)) {
+            return false;
+        }
+        this.password = newPassword;
+        return true;
     }
 
     public void updateRole(UserRole userRole) {
+        if (this.userRole != userRole) {
+            this.securityVersion++;
+        }
         this.userRole = userRole;
     }
 
@@ -0,0 +1,58 @@
+package org.example.expert.domain.user.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.entity.Timestamped;
+import org.example.expert.domain.common.id.TimeOrderedId;
+import org.example.expert.domain.user.enums.UserImportStatus;
+
+// 대량 가져오기 체크포인트. 청크가 커밋될 때마다 함께 갱신되므로 processedRows 까지는 반영이 보장된다
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "user_import_jobs")
+public class UserImportJob extends Timestamped {
+
+    @Id @TimeOrderedId
+    private Long id;
+    @Column(length = 10)
+    private String format;
+    @Enumerated(EnumType.STRING)
+    private UserImportStatus status;
+    // 헤더를 뺀 데이터 행 기준으로 읽고 처리를 끝낸 수. 재개 시 이만큼 건너뛴다
+    private long processedRows;
+    private long importedRows;
+    private long duplicateRows;
+    private long invalidRows;
+    private double rowsPerSecond;
+    @Column(length = 500)
+    private String lastError;
+
+    public UserImportJob(String format) {
+        this.format = format;
+        this.status = UserImportStatus.RUNNING;
+    }
+
+    public void resume() {
+        this.status = UserImportStatus.RUNNING;
+        this.lastError = null;
+    }
+
+    public void recordChunk(long processed, long imported, long duplicates, long invalid, double rowsPerSecond) {
+        this.processedRows += processed;
+        this.importedRows += imported;
+        this.duplicateRows += duplicates;
+        this.invalidRows += invalid;
+        this.rowsPerSecond = rowsPerSecond;
+    }
+
+    public void complete() {
+        this.status = UserImportStatus.COMPLETED;
+    }
+
+    public void fail(String error) {
+        this.status = UserImportStatus.FAILED;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+    }
+}
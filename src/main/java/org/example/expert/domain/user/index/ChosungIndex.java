@@ -0,0 +1,117 @@
+package org.example.expert.domain.user.index;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.dto.response.UserSearchResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+// 닉네임을 초성으로 바꾼 문자열을 키로 하는 접두어 인덱스. "ㅎㄱㄷ" 나 "홍ㄱㄷ" 로 "홍길동" 을 찾는다
+@Slf4j
+@Component
+public class ChosungIndex implements UserIndex {
+
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char HANGUL_BEGIN = '가';
+    private static final char HANGUL_END = '힣';
+    // 초성 하나에 딸린 음절 수 (중성 21 x 종성 28)
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;
+
+    private final SortedKeyIndex<UserSearchResponse> index;
+
+    public ChosungIndex(@Value("${user.nickname-index.compact-threshold:10000}") int compactThreshold) {
+        this.index = new SortedKeyIndex<>(compactThreshold);
+    }
+
+    @Override
+    public void add(UserSearchResponse user) {
+        if (user.getNickname() == null) {
+            return;
+        }
+        index.add(toChosung(user.getNickname()), user.getId(), user);
+    }
+
+    @Override
+    public void onLoaded() {
+        index.build();
+        log.info("초성 인덱스 준비 완료 - {}건", index.size());
+    }
+
+    public boolean isReady() {
+        return index.isReady();
+    }
+
+    // 초성 접두어로 후보 범위를 잡고, 검색어에 완성형 음절이 있으면 같은 자리의 닉네임 글자와 같은 후보만 남긴다.
+    // "홍ㄱ" 은 "홍길동" 은 찾지만 초성만 같은 "한가득" 은 찾지 않는다
+    public List<UserSearchResponse> findByPrefix(String query, int offset, int limit) {
+        String key = toChosung(query);
+        List<SortedKeyIndex.Match<UserSearchResponse>> matches = hasSyllable(query)
+                ? index.findByPrefix(key, user -> matchesSyllables(query, user.getNickname()), offset, limit)
+                : index.findByPrefix(key, offset, limit);
+        return matches.stream()
+                .map(SortedKeyIndex.Match::getValue)
+                .collect(Collectors.toList());
+    }
+
+    public long countByPrefix(String query) {
+        String key = toChosung(query);
+        return hasSyllable(query)
+                ? index.countByPrefix(key, user -> matchesSyllables(query, user.getNickname()))
+                : index.countByPrefix(key);
+    }
+
+    private static boolean hasSyllable(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isSyllable(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 공백을 뺀 위치끼리 비교한다. 음절이 아닌 글자는 초성 키 접두어에서 이미 맞춰졌다
+    static boolean matchesSyllables(String query, String nickname) {
+        int n = 0;
+        for (int q = 0; q < query.length(); q++) {
+            char c = query.charAt(q);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            while (n < nickname.length() && Character.isWhitespace(nickname.charAt(n))) {
+                n++;
+            }
+            if (n >= nickname.length()) {
+                return false;
+            }
+            if (isSyllable(c) && nickname.charAt(n) != c) {
+                return false;
+            }
+            n++;
+        }
+        return true;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= HANGUL_BEGIN && c <= HANGUL_END;
+    }
+
+    // 완성형 한글은 초성으로 바꾸고, 이미 자음인 글자와 그 밖의 문자는 소문자로 그대로 둔다. 공백은 무시한다
+    static String toChosung(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                builder.append(CHOSUNG[(c - HANGUL_BEGIN) / SYLLABLES_PER_CHOSUNG]);
+            } else if (!Character.isWhitespace(c)) {
+                builder.append(c);
+            }
+        }
+        return builder.toString().toLowerCase(Locale.ROOT);
+    }
+}
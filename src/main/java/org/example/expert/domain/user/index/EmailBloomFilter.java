@@ -0,0 +1,156 @@
+package org.example.expert.domain.user.index;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.dto.response.UserSearchResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 가입된 이메일의 블룸 필터. "없음" 판정은 확실하므로 DB 조회 없이 바로 응답할 수 있다
+@Slf4j
+@Component
+public class EmailBloomFilter implements UserIndex {
+
+    private final AtomicLongArray bits;
+    private final long numBits;
+    private final int numHashes;
+    private final AtomicLong insertions = new AtomicLong();
+    private final Counter negativeCounter;
+    private final Counter falsePositiveCounter;
+
+    private volatile boolean ready = false;
+
+    public EmailBloomFilter(
+            @Value("${user.email-bloom.expected-insertions:2000000}") long expectedInsertions,
+            @Value("${user.email-bloom.false-positive-rate:0.01}") double falsePositiveRate,
+            MeterRegistry meterRegistry
+    ) {
+        // m = -n ln p / (ln 2)^2, k = m / n ln 2
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (optimalBits + 63) / 64);
+
+        this.bits = new AtomicLongArray(words);
+        this.numBits = (long) words * 64;
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / expectedInsertions * Math.log(2)));
+
+        Gauge.builder("user.email.bloom.memory.bytes", this, f -> f.bits.length() * 8.0)
+                .description("이메일 블룸 필터 메모리 사용량")
+                .register(meterRegistry);
+        Gauge.builder("user.email.bloom.insertions", insertions, AtomicLong::get)
+                .register(meterRegistry);
+        Gauge.builder("user.email.bloom.expected.fpp", this, EmailBloomFilter::expectedFalsePositiveRate)
+                .description("현재 적재량 기준 예상 오탐률")
+                .register(meterRegistry);
+        this.negativeCounter = Counter.builder("user.email.bloom.negative")
+                .description("DB 조회 없이 없음으로 판정한 횟수")
+                .register(meterRegistry);
+        this.falsePositiveCounter = Counter.builder("user.email.bloom.false.positive")
+                .description("필터는 있다고 했지만 DB 에 없던 횟수")
+                .register(meterRegistry);
+
+        log.info("이메일 블룸 필터 생성 - 예상 건수: {}, 목표 오탐률: {}, 비트: {}, 해시 함수: {}, 메모리: {}KB",
+                expectedInsertions, falsePositiveRate, numBits, numHashes, words * 8L / 1024);
+    }
+
+    @Override
+    public void add(UserSearchResponse user) {
+        if (user.getEmail() == null) {
+            return;
+        }
+
+        long hash = hash(normalize(user.getEmail()));
+        long h1 = hash;
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1L;
+
+        boolean changed = false;
+        for (int i = 0; i < numHashes; i++) {
+            long index = Math.floorMod(h1 + i * h2, numBits);
+            changed |= setBit(index);
+        }
+
+        // 이미 있던 이메일을 다시 넣은 경우는 적재 건수에 세지 않는다
+        if (changed) {
+            insertions.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void onLoaded() {
+        ready = true;
+        log.info("이메일 블룸 필터 준비 완료 - 적재: {}건, 예상 오탐률: {}",
+                insertions.get(), String.format("%.4f", expectedFalsePositiveRate()));
+    }
+
+    // 적재가 끝나기 전에는 항상 true 를 돌려 DB 조회로 넘긴다
+    public boolean mightContain(String email) {
+        if (!ready) {
+            return true;
+        }
+
+        long hash = hash(normalize(email));
+        long h1 = hash;
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1L;
+
+        for (int i = 0; i < numHashes; i++) {
+            long index = Math.floorMod(h1 + i * h2, numBits);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                negativeCounter.increment();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void recordFalsePositive() {
+        if (ready) {
+            falsePositiveCounter.increment();
+        }
+    }
+
+    public double expectedFalsePositiveRate() {
+        double fillRatio = 1 - Math.exp(-(double) numHashes * insertions.get() / numBits);
+        return Math.pow(fillRatio, numHashes);
+    }
+
+    private boolean setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return false;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+        return true;
+    }
+
+    // MySQL 기본 콜레이션처럼 대소문자를 구분하지 않는다
+    private String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // FNV-1a 64 비트 해시 후 비트를 섞어 분포를 고르게 만든다
+    private long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return value ^ (value >>> 33);
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.expert.domain.user.index;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.dto.response.UserSearchResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+
+// 닉네임 자동완성용 접두어 인덱스. 소문자로 맞춘 닉네임의 사전 순(같으면 id 순)으로 돌려준다.
+// 접두어 범위 앞에서부터 limit 개만 읽으므로 길이 순이 아니다 ("kia_very_long" 이 "kim" 보다 먼저 나온다)
+@Slf4j
+@Component
+public class NicknameAutocompleteIndex implements UserIndex {
+
+    private final SortedKeyIndex<String> index;
+
+    public NicknameAutocompleteIndex(@Value("${user.nickname-index.compact-threshold:10000}") int compactThreshold) {
+        this.index = new SortedKeyIndex<>(compactThreshold);
+    }
+
+    @Override
+    public void add(UserSearchResponse user) {
+        if (user.getNickname() == null) {
+            return;
+        }
+        index.add(normalize(user.getNickname()), user.getId(), user.getNickname());
+    }
+
+    @Override
+    public void onLoaded() {
+        index.build();
+        log.info("닉네임 자동완성 인덱스 준비 완료 - {}건", index.size());
+    }
+
+    public boolean isReady() {
+        return index.isReady();
+    }
+
+    public List<SortedKeyIndex.Match<String>> findByPrefix(String prefix, int limit) {
+        return index.findByPrefix(normalize(prefix), 0, limit);
+    }
+
+    static String normalize(String nickname) {
+        return nickname.trim().toLowerCase(Locale.ROOT);
+    }
+}
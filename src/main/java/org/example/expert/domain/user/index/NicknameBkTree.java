@@ -0,0 +1,213 @@
+package org.example.expert.domain.user.index;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.dto.response.UserSearchResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 닉네임 오타 검색용 BK-tree. 편집 거리(레벤슈타인)의 삼각 부등식으로
+// 검색어와 노드의 거리가 d 일 때 [d - k, d + k] 거리의 자식만 내려가므로 전체를 비교하지 않는다
+@Slf4j
+@Component
+public class NicknameBkTree implements UserIndex {
+
+    private static final Comparator<FuzzyMatch> ORDER = Comparator.comparingInt(FuzzyMatch::getDistance)
+            .thenComparing(match -> match.getUser().getId());
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Node root;
+    private int nodeCount = 0;
+    private volatile boolean ready = false;
+
+    @Override
+    public void add(UserSearchResponse user) {
+        if (user.getNickname() == null || user.getNickname().isBlank()) {
+            return;
+        }
+
+        String key = normalize(user.getNickname());
+        lock.writeLock().lock();
+        try {
+            if (root == null) {
+                root = new Node(key, user);
+                nodeCount++;
+                return;
+            }
+
+            Node node = root;
+            while (true) {
+                int distance = distance(key, node.key, new int[node.key.length() + 1], new int[node.key.length() + 1]);
+                if (distance == 0) {
+                    node.addUser(user);
+                    return;
+                }
+                Node child = node.child(distance);
+                if (child == null) {
+                    node.setChild(distance, new Node(key, user));
+                    nodeCount++;
+                    return;
+                }
+                node = child;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onLoaded() {
+        ready = true;
+        log.info("닉네임 BK-tree 준비 완료 - 노드: {}개", nodeCount);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 거리 maxDistance 이내의 사용자를 거리, id 순으로 돌려준다
+    public List<FuzzyMatch> search(String nickname, int maxDistance) {
+        return search(nickname, maxDistance, Integer.MAX_VALUE);
+    }
+
+    // 거리, id 순으로 앞에서 limit 개만 돌려준다. limit 개를 모은 뒤에는 그중 가장 먼 거리보다
+    // 먼 노드는 결과에 들어올 수 없으므로 탐색 범위도 그 거리로 좁힌다
+    public List<FuzzyMatch> search(String nickname, int maxDistance, int limit) {
+        String query = normalize(nickname);
+        if (query.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        // 가장 먼(같으면 id 가 큰) 결과가 맨 앞에 오는 힙
+        PriorityQueue<FuzzyMatch> best = new PriorityQueue<>(ORDER.reversed());
+        int bound = maxDistance;
+
+        // 거리 계산용 행 버퍼는 검색어 길이 기준으로 한 번만 만든다
+        int[] previous = new int[query.length() + 1];
+        int[] current = new int[query.length() + 1];
+
+        lock.readLock().lock();
+        try {
+            if (root != null) {
+                Deque<Node> stack = new ArrayDeque<>();
+                stack.push(root);
+                while (!stack.isEmpty()) {
+                    Node node = stack.pop();
+                    int distance = distance(node.key, query, previous, current);
+
+                    if (distance <= bound) {
+                        for (UserSearchResponse user : node.users) {
+                            FuzzyMatch match = new FuzzyMatch(distance, user);
+                            if (best.size() < limit) {
+                                best.add(match);
+                            } else if (ORDER.compare(match, best.peek()) < 0) {
+                                best.poll();
+                                best.add(match);
+                            }
+                        }
+                        if (best.size() >= limit) {
+                            bound = Math.min(bound, best.peek().getDistance());
+                        }
+                    }
+
+                    int from = Math.max(1, distance - bound);
+                    int to = Math.min(node.children.length - 1, distance + bound);
+                    for (int d = from; d <= to; d++) {
+                        if (node.children[d] != null) {
+                            stack.push(node.children[d]);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<FuzzyMatch> matches = new ArrayList<>(best);
+        matches.sort(ORDER);
+        return matches;
+    }
+
+    static String normalize(String nickname) {
+        return nickname.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // 두 행만 쓰는 레벤슈타인 거리. 행 버퍼 길이는 b.length() + 1 이어야 한다
+    static int distance(String a, String b, int[] previous, int[] current) {
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = ca == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    @Getter
+    public static class FuzzyMatch {
+
+        private final int distance;
+        private final UserSearchResponse user;
+
+        public FuzzyMatch(int distance, UserSearchResponse user) {
+            this.distance = distance;
+            this.user = user;
+        }
+    }
+
+    private static final class Node {
+
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private final String key;
+        // 같은 닉네임을 쓰는 사용자들
+        private UserSearchResponse[] users;
+        // 거리 값을 인덱스로 쓰는 자식 배열. 리프 노드는 빈 배열을 공유한다
+        private Node[] children = NO_CHILDREN;
+
+        private Node(String key, UserSearchResponse user) {
+            this.key = key;
+            this.users = new UserSearchResponse[]{user};
+        }
+
+        private void addUser(UserSearchResponse user) {
+            for (UserSearchResponse existing : users) {
+                if (existing.getId().equals(user.getId())) {
+                    return;
+                }
+            }
+            users = Arrays.copyOf(users, users.length + 1);
+            users[users.length - 1] = user;
+        }
+
+        private Node child(int distance) {
+            return distance < children.length ? children[distance] : null;
+        }
+
+        private void setChild(int distance, Node child) {
+            if (distance >= children.length) {
+                children = Arrays.copyOf(children, distance + 1);
+            }
+            children[distance] = child;
+        }
+    }
+}
@@ -0,0 +1,388 @@
+package org.example.expert.domain.user.index;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+
+// (key, id) 순서로 정렬된 배열 스냅샷과 그 뒤에 들어온 항목을 담는 정렬 맵(delta)으로 이뤄진 접두어 인덱스.
+// 조회는 이진 탐색 두 번으로 범위를 잡고 필요한 만큼만 읽으므로 O(log n + k) 이다.
+// 기동 시에는 세 개의 배열에 그대로 쌓은 뒤 제자리 정렬해 객체를 따로 만들지 않는다
+public class SortedKeyIndex<V> {
+
+    private final int compactThreshold;
+    private final NavigableMap<DeltaKey, V> delta = new ConcurrentSkipListMap<>();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile boolean ready = false;
+
+    // 적재 중에만 쓰는 버퍼
+    private String[] bufferKeys = new String[1024];
+    private long[] bufferIds = new long[1024];
+    private Object[] bufferValues = new Object[1024];
+    private int bufferSize = 0;
+
+    public SortedKeyIndex(int compactThreshold) {
+        this.compactThreshold = compactThreshold;
+    }
+
+    public void add(String key, long id, V value) {
+        if (key == null || key.isEmpty()) {
+            return;
+        }
+
+        if (!ready) {
+            synchronized (this) {
+                if (!ready) {
+                    appendToBuffer(key, id, value);
+                    return;
+                }
+            }
+        }
+
+        if (snapshot.contains(key, id)) {
+            return;
+        }
+        delta.put(new DeltaKey(key, id), value);
+
+        if (delta.size() >= compactThreshold) {
+            compact();
+        }
+    }
+
+    // 적재가 끝나면 버퍼를 정렬해 첫 스냅샷으로 만든다
+    public synchronized void build() {
+        if (ready) {
+            return;
+        }
+
+        sort(bufferKeys, bufferIds, bufferValues, 0, bufferSize - 1);
+        int size = removeDuplicates();
+
+        snapshot = new Snapshot(
+                Arrays.copyOf(bufferKeys, size),
+                Arrays.copyOf(bufferIds, size),
+                Arrays.copyOf(bufferValues, size)
+        );
+        bufferKeys = null;
+        bufferIds = null;
+        bufferValues = null;
+        bufferSize = 0;
+        ready = true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return snapshot.keys.length + delta.size();
+    }
+
+    // prefix 로 시작하는 항목을 (key, id) 순서로 offset 부터 limit 개 돌려준다
+    public List<Match<V>> findByPrefix(String prefix, int offset, int limit) {
+        return findByPrefix(prefix, value -> true, offset, limit);
+    }
+
+    // 키 접두어로 범위를 잡은 뒤 filter 를 통과한 항목만 돌려준다. offset 과 limit 도 걸러낸 뒤 기준이다
+    public List<Match<V>> findByPrefix(String prefix, Predicate<? super V> filter, int offset, int limit) {
+        List<Match<V>> matches = new ArrayList<>(Math.max(0, Math.min(limit, 64)));
+        if (!ready || limit <= 0) {
+            return matches;
+        }
+
+        int[] skipped = {0};
+        scan(prefix, match -> {
+            if (!filter.test(match.getValue())) {
+                return true;
+            }
+            if (skipped[0] < offset) {
+                skipped[0]++;
+                return true;
+            }
+            matches.add(match);
+            return matches.size() < limit;
+        });
+        return matches;
+    }
+
+    public long countByPrefix(String prefix) {
+        if (!ready) {
+            return 0;
+        }
+
+        Snapshot current = snapshot;
+        long count = current.lowerBound(upperKey(prefix), Long.MIN_VALUE) - current.lowerBound(prefix, Long.MIN_VALUE);
+        for (DeltaKey key : deltaRange(prefix).keySet()) {
+            if (!current.contains(key.key, key.id)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // filter 가 있으면 범위를 끝까지 읽어야 하므로 O(범위 크기) 이다
+    public long countByPrefix(String prefix, Predicate<? super V> filter) {
+        if (!ready) {
+            return 0;
+        }
+
+        long[] count = {0};
+        scan(prefix, match -> {
+            if (filter.test(match.getValue())) {
+                count[0]++;
+            }
+            return true;
+        });
+        return count[0];
+    }
+
+    // 스냅샷과 delta 의 prefix 범위를 (key, id) 순서로 합쳐 visitor 에 넘긴다. visitor 가 false 를 돌려주면 멈춘다
+    private void scan(String prefix, Predicate<Match<V>> visitor) {
+        Snapshot current = snapshot;
+        int from = current.lowerBound(prefix, Long.MIN_VALUE);
+        int to = current.lowerBound(upperKey(prefix), Long.MIN_VALUE);
+        Iterator<Map.Entry<DeltaKey, V>> deltaIterator = deltaRange(prefix).entrySet().iterator();
+        Map.Entry<DeltaKey, V> pending = deltaIterator.hasNext() ? deltaIterator.next() : null;
+
+        int index = from;
+        Match<V> last = null;
+        while (index < to || pending != null) {
+            Match<V> next;
+            if (pending == null || (index < to && compare(current.keys[index], current.ids[index], pending.getKey().key, pending.getKey().id) <= 0)) {
+                next = new Match<>(current.keys[index], current.ids[index], current.value(index));
+                index++;
+            } else {
+                next = new Match<>(pending.getKey().key, pending.getKey().id, pending.getValue());
+                pending = deltaIterator.hasNext() ? deltaIterator.next() : null;
+            }
+
+            // 압축 직후에는 같은 항목이 스냅샷과 delta 양쪽에 잠시 있을 수 있다
+            if (last != null && last.id == next.id && last.key.equals(next.key)) {
+                continue;
+            }
+            last = next;
+
+            if (!visitor.test(next)) {
+                return;
+            }
+        }
+    }
+
+    // delta 를 스냅샷에 병합한다. 병합 중에 들어온 항목은 delta 에 남는다
+    public synchronized void compact() {
+        if (!ready || delta.isEmpty()) {
+            return;
+        }
+
+        Snapshot current = snapshot;
+        List<Map.Entry<DeltaKey, V>> pending = new ArrayList<>(delta.entrySet());
+        int total = current.keys.length + pending.size();
+
+        String[] keys = new String[total];
+        long[] ids = new long[total];
+        Object[] values = new Object[total];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < current.keys.length || j < pending.size()) {
+            if (j >= pending.size() || (i < current.keys.length
+                    && compare(current.keys[i], current.ids[i], pending.get(j).getKey().key, pending.get(j).getKey().id) <= 0)) {
+                keys[size] = current.keys[i];
+                ids[size] = current.ids[i];
+                values[size] = current.values[i];
+                i++;
+            } else {
+                DeltaKey key = pending.get(j).getKey();
+                keys[size] = key.key;
+                ids[size] = key.id;
+                values[size] = pending.get(j).getValue();
+                j++;
+            }
+            if (size > 0 && ids[size] == ids[size - 1] && keys[size].equals(keys[size - 1])) {
+                continue;
+            }
+            size++;
+        }
+
+        snapshot = new Snapshot(Arrays.copyOf(keys, size), Arrays.copyOf(ids, size), Arrays.copyOf(values, size));
+        for (Map.Entry<DeltaKey, V> entry : pending) {
+            delta.remove(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private NavigableMap<DeltaKey, V> deltaRange(String prefix) {
+        return delta.subMap(new DeltaKey(prefix, Long.MIN_VALUE), true, new DeltaKey(upperKey(prefix), Long.MIN_VALUE), false);
+    }
+
+    private void appendToBuffer(String key, long id, V value) {
+        if (bufferSize == bufferKeys.length) {
+            int capacity = bufferSize + (bufferSize >> 1);
+            bufferKeys = Arrays.copyOf(bufferKeys, capacity);
+            bufferIds = Arrays.copyOf(bufferIds, capacity);
+            bufferValues = Arrays.copyOf(bufferValues, capacity);
+        }
+        bufferKeys[bufferSize] = key;
+        bufferIds[bufferSize] = id;
+        bufferValues[bufferSize] = value;
+        bufferSize++;
+    }
+
+    private int removeDuplicates() {
+        int size = 0;
+        for (int i = 0; i < bufferSize; i++) {
+            if (size > 0 && bufferIds[i] == bufferIds[size - 1] && bufferKeys[i].equals(bufferKeys[size - 1])) {
+                continue;
+            }
+            bufferKeys[size] = bufferKeys[i];
+            bufferIds[size] = bufferIds[i];
+            bufferValues[size] = bufferValues[i];
+            size++;
+        }
+        return size;
+    }
+
+    // prefix 로 시작하는 모든 키보다 큰 가장 작은 키
+    private static String upperKey(String prefix) {
+        return prefix + Character.MAX_VALUE;
+    }
+
+    private static int compare(String key1, long id1, String key2, long id2) {
+        int result = key1.compareTo(key2);
+        return result != 0 ? result : Long.compare(id1, id2);
+    }
+
+    // 세 배열을 함께 움직이는 제자리 퀵 정렬. 작은 구간은 삽입 정렬로 마무리한다
+    private static void sort(String[] keys, long[] ids, Object[] values, int low, int high) {
+        while (high - low > 16) {
+            int middle = (low + high) >>> 1;
+            String pivotKey = keys[middle];
+            long pivotId = ids[middle];
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (compare(keys[i], ids[i], pivotKey, pivotId) < 0) {
+                    i++;
+                }
+                while (compare(keys[j], ids[j], pivotKey, pivotId) > 0) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(keys, ids, values, i++, j--);
+                }
+            }
+            // 작은 쪽만 재귀로 처리해 호출 깊이를 log n 으로 제한한다
+            if (j - low < high - i) {
+                sort(keys, ids, values, low, j);
+                low = i;
+            } else {
+                sort(keys, ids, values, i, high);
+                high = j;
+            }
+        }
+
+        for (int i = low + 1; i <= high; i++) {
+            for (int j = i; j > low && compare(keys[j - 1], ids[j - 1], keys[j], ids[j]) > 0; j--) {
+                swap(keys, ids, values, j - 1, j);
+            }
+        }
+    }
+
+    private static void swap(String[] keys, long[] ids, Object[] values, int i, int j) {
+        String key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+        long id = ids[i];
+        ids[i] = ids[j];
+        ids[j] = id;
+        Object value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+    }
+
+    @Getter
+    public static class Match<V> {
+
+        private final String key;
+        private final long id;
+        private final V value;
+
+        public Match(String key, long id, V value) {
+            this.key = key;
+            this.id = id;
+            this.value = value;
+        }
+    }
+
+    private static final class DeltaKey implements Comparable<DeltaKey> {
+
+        private final String key;
+        private final long id;
+
+        private DeltaKey(String key, long id) {
+            this.key = key;
+            this.id = id;
+        }
+
+        @Override
+        public int compareTo(DeltaKey other) {
+            return compare(key, id, other.key, other.id);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof DeltaKey other && id == other.id && key.equals(other.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() * 31 + Long.hashCode(id);
+        }
+    }
+
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(new String[0], new long[0], new Object[0]);
+
+        private final String[] keys;
+        private final long[] ids;
+        private final Object[] values;
+
+        private Snapshot(String[] keys, long[] ids, Object[] values) {
+            this.keys = keys;
+            this.ids = ids;
+            this.values = values;
+        }
+
+        @SuppressWarnings("unchecked")
+        private <V> V value(int index) {
+            return (V) values[index];
+        }
+
+        // (key, id) 이상인 첫 위치
+        private int lowerBound(String key, long id) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (compare(keys[middle], ids[middle], key, id) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        private boolean contains(String key, long id) {
+            int index = lowerBound(key, id);
+            return index < keys.length && ids[index] == id && keys[index].equals(key);
+        }
+    }
+}
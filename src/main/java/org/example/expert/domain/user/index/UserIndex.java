@@ -0,0 +1,13 @@
+package org.example.expert.domain.user.index;
+
+import org.example.expert.domain.user.dto.response.UserSearchResponse;
+
+// users 테이블을 기반으로 메모리에 유지되는 인덱스. 같은 사용자가 여러 번 추가되어도 안전해야 한다
+public interface UserIndex {
+
+    void add(UserSearchResponse user);
+
+    // 기동 시 전체 적재가 끝나면 호출된다
+    default void onLoaded() {
+    }
+}
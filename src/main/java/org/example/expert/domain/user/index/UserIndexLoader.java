@@ -0,0 +1,103 @@
+package org.example.expert.domain.user.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.id.TimeOrderedIdGenerator;
+import org.example.expert.domain.user.dto.response.UserSearchResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// users 테이블을 id 순서로 청크 단위로 읽어 메모리 인덱스들을 채우고, 이후 최근에 생긴 사용자를 주기적으로 반영한다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserIndexLoader {
+
+    private final UserRepository userRepository;
+    private final List<UserIndex> userIndexes;
+
+    @Value("${user.index.chunk-size:10000}")
+    private int chunkSize;
+
+    @Value("${user.index.overlap-ms:60000}")
+    private long overlapMs;
+
+    private long lastSeenId = 0L;
+    private volatile boolean loaded = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void loadAll() {
+        long startTime = System.currentTimeMillis();
+
+        long count = loadAfter(lastSeenId);
+        userIndexes.forEach(UserIndex::onLoaded);
+        loaded = true;
+
+        log.info("사용자 인덱스 적재 완료 - {}건, 소요시간: {}ms", count, System.currentTimeMillis() - startTime);
+    }
+
+    // 다른 노드에서 가입한 사용자를 반영
+    // id 는 커밋 시각이 아니라 저장 시각에 정해지므로 늦게 커밋된 행이나 시계가 느린 노드의 행은 lastSeenId 보다 작을 수 있다.
+    // 그래서 overlap-ms 만큼 되돌아가 다시 읽는다. 인덱스 추가는 같은 행을 여러 번 넣어도 안전하다
+    @Scheduled(fixedDelayString = "${user.index.refresh-interval-ms:5000}")
+    public synchronized void refresh() {
+        if (!loaded) {
+            return;
+        }
+
+        long fromId = Math.min(lastSeenId, TimeOrderedIdGenerator.lowestIdAt(System.currentTimeMillis() - overlapMs));
+        long count = loadAfter(fromId);
+        if (count > 0) {
+            log.debug("사용자 인덱스 증분 반영 - {}건 (겹쳐 읽은 행 포함)", count);
+        }
+    }
+
+    // 이 노드에서 가입한 사용자는 즉시 반영
+    public void register(User user) {
+        register(new UserSearchResponse(user.getId(), user.getEmail(), user.getNickname()));
+    }
+
+    public void register(UserSearchResponse row) {
+        for (UserIndex userIndex : userIndexes) {
+            userIndex.add(row);
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    private long loadAfter(long fromId) {
+        long cursor = fromId;
+        long count = 0;
+
+        while (true) {
+            List<UserSearchResponse> rows = userRepository.findSearchRowsAfterId(cursor, PageRequest.of(0, chunkSize));
+            if (rows.isEmpty()) {
+                return count;
+            }
+
+            for (UserSearchResponse row : rows) {
+                for (UserIndex userIndex : userIndexes) {
+                    userIndex.add(row);
+                }
+            }
+
+            cursor = rows.get(rows.size() - 1).getId();
+            lastSeenId = Math.max(lastSeenId, cursor);
+            count += rows.size();
+
+            if (rows.size() < chunkSize) {
+                return count;
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package org.example.expert.domain.user.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// userId -> 보안 버전. 권한이나 비밀번호가 바뀐 사용자만 담기고, 없는 사용자는 0 으로 본다.
+// 읽기는 불변 스냅샷을 락 없이 조회하고, 드문 쓰기는 스냅샷을 복사해 교체한다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserSecurityVersionTable {
+
+    private static final int LOAD_CHUNK_SIZE = 10000;
+    // 노드 간 시계 오차를 감안해 이전 동기화 시각보다 조금 앞에서부터 다시 읽는다
+    private static final long SYNC_OVERLAP_SECONDS = 30;
+
+    private final UserRepository userRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private LocalDateTime lastSyncedAt;
+
+    public long currentVersion(long userId) {
+        return snapshot.get(userId);
+    }
+
+    // 토큰에 찍힌 버전이 현재 버전보다 낮으면 권한 변경 이전에 발급된 토큰
+    public boolean isStale(long userId, long tokenVersion) {
+        return tokenVersion < snapshot.get(userId);
+    }
+
+    // 롤백된 변경이 반영되지 않도록 커밋 이후에 갱신한다
+    public void updateAfterCommit(long userId, long version) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(Map.of(userId, version));
+                }
+            });
+            return;
+        }
+        apply(Map.of(userId, version));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void loadAll() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long lastId = 0L;
+        int count = 0;
+
+        while (true) {
+            List<User> users = userRepository.findWithSecurityVersionAfterId(lastId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            if (users.isEmpty()) {
+                break;
+            }
+            apply(toVersions(users));
+            lastId = users.get(users.size() - 1).getId();
+            count += users.size();
+        }
+
+        lastSyncedAt = startedAt;
+        log.info("보안 버전 테이블 적재 완료 - {}건", count);
+    }
+
+    // users.security_version 이 바뀐 사용자만 증분으로 읽는다
+    @Scheduled(fixedDelayString = "${user.security-version.refresh-interval-ms:5000}")
+    public synchronized void refresh() {
+        if (lastSyncedAt == null) {
+            return;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<User> users = userRepository.findSecurityVersionChangedSince(lastSyncedAt.minusSeconds(SYNC_OVERLAP_SECONDS));
+        if (!users.isEmpty()) {
+            apply(toVersions(users));
+        }
+        lastSyncedAt = startedAt;
+    }
+
+    private Map<Long, Long> toVersions(List<User> users) {
+        Map<Long, Long> versions = new HashMap<>();
+        for (User user : users) {
+            versions.put(user.getId(), user.getSecurityVersion());
+        }
+        return versions;
+    }
+
+    private synchronized void apply(Map<Long, Long> versions) {
+        snapshot = snapshot.with(versions);
+    }
+
+    // long 키/값을 박싱 없이 담는 선형 탐사 해시 테이블. 키 0 은 빈 칸을 뜻한다
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(new long[16], new long[16], 0);
+
+        private final long[] keys;
+        private final long[] values;
+        private final int size;
+
+        private Snapshot(long[] keys, long[] values, int size) {
+            this.keys = keys;
+            this.values = values;
+            this.size = size;
+        }
+
+        private long get(long key) {
+            int mask = keys.length - 1;
+            int index = slot(key) & mask;
+            while (true) {
+                long current = keys[index];
+                if (current == key) {
+                    return values[index];
+                }
+                if (current == 0) {
+                    return 0;
+                }
+                index = (index + 1) & mask;
+            }
+        }
+
+        private Snapshot with(Map<Long, Long> updates) {
+            int capacity = keys.length;
+            while ((size + updates.size()) * 2 > capacity) {
+                capacity <<= 1;
+            }
+
+            long[] newKeys = new long[capacity];
+            long[] newValues = new long[capacity];
+            int newSize = 0;
+
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != 0) {
+                    newSize += put(newKeys, newValues, keys[i], values[i]);
+                }
+            }
+            for (Map.Entry<Long, Long> entry : updates.entrySet()) {
+                newSize += put(newKeys, newValues, entry.getKey(), entry.getValue());
+            }
+
+            return new Snapshot(newKeys, newValues, newSize);
+        }
+
+        // 버전은 증가만 하므로 더 큰 값을 유지한다
+        private static int put(long[] keys, long[] values, long key, long value) {
+            int mask = keys.length - 1;
+            int index = slot(key) & mask;
+            while (true) {
+                if (keys[index] == key) {
+                    values[index] = Math.max(values[index], value);
+                    return 0;
+                }
+                if (keys[index] == 0) {
+                    keys[index] = key;
+                    values[index] = value;
+                    return 1;
+                }
+                index = (index + 1) & mask;
+            }
+        }
+
+        private static int slot(long key) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.expert.domain.user.repository;
+
+import org.example.expert.domain.user.entity.NicknameTrigram;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface NicknameTrigramRepository extends JpaRepository<NicknameTrigram, NicknameTrigram.Key> {
+
+    @Modifying
+    @Query("DELETE FROM NicknameTrigram t WHERE t.userId = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+
+    // 아직 trigram 이 없는 사용자를 id 순서로 찾는다 (3글자 미만 닉네임은 원래 trigram 이 없다)
+    @Query("SELECT u.id FROM User u WHERE u.id > :lastId AND LENGTH(u.nickname) >= 3 " +
+            "AND NOT EXISTS (SELECT 1 FROM NicknameTrigram t WHERE t.userId = u.id) ORDER BY u.id")
+    List<Long> findUnindexedUserIds(@Param("lastId") Long lastId, Pageable pageable);
+}
@@ -0,0 +1,7 @@
+package org.example.expert.domain.user.repository;
+
+import org.example.expert.domain.user.entity.UserImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface UserImportJobRepository extends JpaRepository<UserImportJob, Long> {
+}
@@ -1,22 +1,79 @@
 package org.example.expert.domain.user.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.example.expert.domain.user.dto.response.UserSearchResponse;
 import org.example.expert.domain.user.entity.User;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
+
+    // 2차 캐시를 읽지 않고 DB 에서 가져와 캐시를 갱신한다. 캐시는 노드마다 따로 있어 다른 노드의 변경이 늦게 보이므로
+    // 엔티티를 수정하는 경로와 토큰 발급처럼 최신 권한이 필요한 곳에서 쓴다
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "REFRESH"))
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findFreshById(@Param("id") Long id);
     boolean existsByEmail(String email);
 
+    // 대량 가져오기 중복 확인용. 청크 단위로 이미 가입된 이메일만 골라낸다
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // 대량 가져오기에서 INSERT IGNORE 로 실제 들어간 행을 확인한다
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
     // 닉네임으로 일치하는 사용자 검색
     @Query("SELECT u FROM User u WHERE u.nickname = :nickname ORDER BY u.id")
     Page<User> findByNicknameExact(@Param("nickname") String nickname, Pageable pageable);
 
     @Query("SELECT u FROM User u WHERE u.nickname LIKE %:nickname% ORDER BY u.id")
     Page<User> findByNicknameLike(@Param("nickname") String nickname, Pageable pageable);
+
+    // 검색어의 trigram 을 모두 가진 사용자만 남긴 뒤 LIKE 로 확인한다. 풀스캔 대신 trigram 기본 키 범위만 읽는다
+    @Query(value = "SELECT u FROM User u WHERE u.id IN (" +
+            "SELECT t.userId FROM NicknameTrigram t WHERE t.trigram IN :trigrams " +
+            "GROUP BY t.userId HAVING COUNT(t.trigram) = :trigramCount) " +
+            "AND u.nickname LIKE %:nickname% ORDER BY u.id",
+            countQuery = "SELECT COUNT(u) FROM User u WHERE u.id IN (" +
+                    "SELECT t.userId FROM NicknameTrigram t WHERE t.trigram IN :trigrams " +
+                    "GROUP BY t.userId HAVING COUNT(t.trigram) = :trigramCount) " +
+                    "AND u.nickname LIKE %:nickname%")
+    Page<User> findByNicknameTrigrams(@Param("nickname") String nickname,
+                                      @Param("trigrams") Collection<String> trigrams,
+                                      @Param("trigramCount") long trigramCount,
+                                      Pageable pageable);
+
+    // 자동완성 인덱스 적재 전 대체 경로
+    List<User> findByNicknameStartingWithOrderByNicknameAscIdAsc(String prefix, Pageable pageable);
+
+    // 메모리 인덱스 적재용. 엔티티 대신 필요한 컬럼만 id 순서로 읽는다
+    @Query("SELECT new org.example.expert.domain.user.dto.response.UserSearchResponse(u.id, u.email, u.nickname) " +
+            "FROM User u WHERE u.id > :lastId ORDER BY u.id")
+    List<UserSearchResponse> findSearchRowsAfterId(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 보안 버전 테이블 적재용. 한 번이라도 권한이나 비밀번호가 바뀐 사용자만 읽는다
+    @Query("SELECT u FROM User u WHERE u.securityVersion > 0 AND u.id > :lastId ORDER BY u.id")
+    List<User> findWithSecurityVersionAfterId(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT u FROM User u WHERE u.securityVersion > 0 AND u.modifiedAt >= :since")
+    List<User> findSecurityVersionChangedSince(@Param("since") LocalDateTime since);
+
+    // 비밀번호 재해시용. 비교와 교체 사이에 다른 변경이 끼어들지 않도록 행을 잠그고 DB 에서 읽는다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findByIdForUpdate(@Param("id") Long id);
 }
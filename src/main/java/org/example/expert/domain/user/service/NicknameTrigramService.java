@@ -0,0 +1,140 @@
+package org.example.expert.domain.user.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.entity.NicknameTrigram;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.repository.NicknameTrigramRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+// 닉네임 부분 검색용 trigram 테이블을 관리한다.
+// 메모리 인덱스와 달리 DB 에 있으므로 노드가 여러 대여도 같은 색인을 공유하고, 기동 시 다시 적재할 필요가 없다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NicknameTrigramService {
+
+    // 중복 키는 무시한다. 여러 노드가 동시에 백필하거나 대소문자만 다른 trigram 이 겹쳐도 실패하지 않는다
+    private static final String INSERT_SQL = "INSERT IGNORE INTO nickname_trigrams (trigram, user_id) VALUES (?, ?)";
+    // 백필을 한 번 끝까지 마쳤다는 표시. 실제 trigram 은 빈 문자열이 될 수 없고 사용자 id 0 도 없으므로 검색에 섞이지 않는다
+    private static final NicknameTrigram.Key BACKFILL_MARKER = new NicknameTrigram.Key("", 0L);
+
+    private final NicknameTrigramRepository nicknameTrigramRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${user.nickname-trigram.chunk-size:1000}")
+    private int chunkSize;
+
+    private volatile boolean ready = false;
+
+    // 호출한 쪽의 트랜잭션 안에서 기존 trigram 을 지우고 다시 넣는다. 가입과 닉네임 변경에서 사용한다
+    public void index(Long userId, String nickname) {
+        nicknameTrigramRepository.deleteAllByUserId(userId);
+        insert(userId, trigrams(nickname));
+    }
+
+    // JDBC 로 직접 저장한 신규 사용자들의 trigram 을 한 번의 배치로 넣는다
+    public void indexAll(Map<Long, String> nicknames) {
+        List<Object[]> rows = new ArrayList<>();
+        for (Map.Entry<Long, String> entry : nicknames.entrySet()) {
+            for (String trigram : trigrams(entry.getValue())) {
+                rows.add(new Object[]{trigram, entry.getKey()});
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        }
+    }
+
+    // 다른 노드나 이전 기동에서 백필을 마쳤으면 전체 조회 없이 기본 키 한 건으로 확인하고 바로 쓴다
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkBackfilled() {
+        if (nicknameTrigramRepository.existsById(BACKFILL_MARKER)) {
+            ready = true;
+            log.info("닉네임 trigram 백필 완료 표시 확인 - 바로 사용");
+        }
+    }
+
+    // trigram 이 없는 기존 사용자를 채운다. 한 번 끝까지 돌면 이후 사용자는 가입 시점에 색인되므로 더 돌지 않는다
+    @Scheduled(fixedDelayString = "${user.nickname-trigram.backfill-interval-ms:10000}")
+    public void backfill() {
+        if (ready || nicknameTrigramRepository.existsById(BACKFILL_MARKER)) {
+            ready = true;
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        long lastId = 0L;
+        long count = 0;
+        while (true) {
+            List<Long> userIds = nicknameTrigramRepository.findUnindexedUserIds(lastId, PageRequest.of(0, chunkSize));
+            if (userIds.isEmpty()) {
+                break;
+            }
+
+            transactionTemplate.executeWithoutResult(status -> {
+                for (User user : userRepository.findAllById(userIds)) {
+                    insert(user.getId(), trigrams(user.getNickname()));
+                }
+            });
+
+            lastId = userIds.get(userIds.size() - 1);
+            count += userIds.size();
+            if (userIds.size() < chunkSize) {
+                break;
+            }
+        }
+
+        jdbcTemplate.update(INSERT_SQL, BACKFILL_MARKER.getTrigram(), BACKFILL_MARKER.getUserId());
+        ready = true;
+        log.info("닉네임 trigram 백필 완료 - {}명, 소요시간: {}ms", count, System.currentTimeMillis() - startTime);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 소문자로 바꾼 뒤 연속한 세 글자를 모두 뽑는다. 세 글자 미만이면 빈 집합
+    public static Set<String> trigrams(String text) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        if (!StringUtils.hasText(text)) {
+            return trigrams;
+        }
+
+        int[] codePoints = text.trim().toLowerCase(Locale.ROOT).codePoints().toArray();
+        for (int i = 0; i + 3 <= codePoints.length; i++) {
+            trigrams.add(new String(codePoints, i, 3));
+        }
+        return trigrams;
+    }
+
+    private void insert(Long userId, Set<String> trigrams) {
+        if (trigrams.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = new ArrayList<>(trigrams.size());
+        for (String trigram : trigrams) {
+            rows.add(new Object[]{trigram, userId});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+}
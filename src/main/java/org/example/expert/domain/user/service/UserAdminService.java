@@ -1,10 +1,12 @@
 package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.auth.service.RefreshTokenService;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.index.UserSecurityVersionTable;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,10 +16,16 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserAdminService {
 
     private final UserRepository userRepository;
+    private final UserSecurityVersionTable userSecurityVersionTable;
+    private final RefreshTokenService refreshTokenService;
 
     @Transactional
     public void changeUserRole(long userId, UserRoleChangeRequest userRoleChangeRequest) {
-        User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
+        User user = userRepository.findFreshById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
         user.updateRole(UserRole.of(userRoleChangeRequest.getRole()));
+        // 다른 노드는 주기 동기화로, 이 노드는 커밋 직후 바로 반영한다
+        userSecurityVersionTable.updateAfterCommit(user.getId(), user.getSecurityVersion());
+        // 이전 권한으로 발급된 리프레시 토큰도 폐기해 다시 로그인하게 한다
+        refreshTokenService.revokeAll(user.getId());
     }
 }
@@ -0,0 +1,151 @@
+package org.example.expert.domain.user.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.request.UserImportRow;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 요청 본문을 한 줄씩 읽어 UserImportRow 로 바꾼다. 전체를 메모리에 올리지 않는다.
+// CSV 는 첫 줄이 헤더(email, password, nickname, userRole)이며, 따옴표로 감싼 필드 안의 줄바꿈은 지원하지 않는다.
+// 형식이 깨진 행은 모든 값이 null 인 행으로 돌려주어 호출하는 쪽이 잘못된 행으로 센다
+class UserImportReader {
+
+    static final String CSV = "csv";
+    static final String NDJSON = "ndjson";
+
+    private static final UserImportRow INVALID = new UserImportRow(null, null, null, null);
+
+    private final BufferedReader reader;
+    private final String format;
+    private final ObjectMapper objectMapper;
+
+    private int emailIndex = -1;
+    private int passwordIndex = -1;
+    private int nicknameIndex = -1;
+    private int userRoleIndex = -1;
+
+    UserImportReader(BufferedReader reader, String format, ObjectMapper objectMapper) throws IOException {
+        this.reader = reader;
+        this.format = format;
+        this.objectMapper = objectMapper;
+        if (CSV.equals(format)) {
+            readHeader();
+        }
+    }
+
+    // 다음 데이터 행. 끝이면 null
+    UserImportRow next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+
+        return CSV.equals(format) ? parseCsv(line) : parseJson(line);
+    }
+
+    private void readHeader() throws IOException {
+        String header = reader.readLine();
+        if (header == null) {
+            throw new InvalidRequestException("CSV 헤더가 없습니다.");
+        }
+
+        List<String> columns = splitCsv(header.replace("\uFEFF", ""));
+        if (columns == null) {
+            throw new InvalidRequestException("CSV 헤더 형식이 올바르지 않습니다.");
+        }
+        for (int i = 0; i < columns.size(); i++) {
+            switch (columns.get(i).trim().toLowerCase(Locale.ROOT)) {
+                case "email" -> emailIndex = i;
+                case "password" -> passwordIndex = i;
+                case "nickname" -> nicknameIndex = i;
+                case "userrole", "user_role" -> userRoleIndex = i;
+                default -> {
+                }
+            }
+        }
+        if (emailIndex < 0 || passwordIndex < 0 || nicknameIndex < 0) {
+            throw new InvalidRequestException("CSV 헤더에 email, password, nickname 이 필요합니다.");
+        }
+    }
+
+    private UserImportRow parseCsv(String line) {
+        List<String> fields = splitCsv(line);
+        if (fields == null) {
+            return INVALID;
+        }
+        return new UserImportRow(
+                field(fields, emailIndex),
+                field(fields, passwordIndex),
+                field(fields, nicknameIndex),
+                field(fields, userRoleIndex)
+        );
+    }
+
+    private UserImportRow parseJson(String line) {
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            return new UserImportRow(
+                    text(node, "email"),
+                    text(node, "password"),
+                    text(node, "nickname"),
+                    text(node, "userRole")
+            );
+        } catch (IOException e) {
+            return INVALID;
+        }
+    }
+
+    private static String field(List<String> fields, int index) {
+        return index >= 0 && index < fields.size() ? fields.get(index) : null;
+    }
+
+    private static String text(JsonNode node, String name) {
+        JsonNode value = node.get(name);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    // 쉼표로 나누되 따옴표 안의 쉼표는 값으로 본다. "" 는 따옴표 하나. 따옴표가 닫히지 않으면 null
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+
+        if (quoted) {
+            return null;
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
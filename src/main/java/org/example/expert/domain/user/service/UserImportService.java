@@ -0,0 +1,394 @@
+package org.example.expert.domain.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.example.expert.domain.common.id.TimeOrderedIdGenerator;
+import org.example.expert.domain.user.dto.request.UserImportRow;
+import org.example.expert.domain.user.dto.response.UserImportResponse;
+import org.example.expert.domain.user.dto.response.UserSearchResponse;
+import org.example.expert.domain.user.entity.UserImportJob;
+import org.example.expert.domain.user.enums.UserImportStatus;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.index.UserIndexLoader;
+import org.example.expert.domain.user.repository.UserImportJobRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+// CSV / NDJSON 본문을 청크 단위로 읽어 사용자를 대량으로 가져온다.
+// 요청 스레드는 본문을 임시 파일로 받아 두고 jobId 를 바로 돌려주며, 실제 처리는 전용 스레드에서 진행한다.
+// 청크마다 중복 이메일을 한 번의 IN 조회로 걸러내고, 비밀번호는 전용 풀에서 병렬로 해시한 뒤
+// 영속성 컨텍스트를 거치지 않고 JDBC 배치로 넣는다. 사용자, trigram, 체크포인트가 한 트랜잭션으로 커밋되므로
+// 중간에 실패해도 같은 jobId 로 다시 요청하면 커밋된 행 다음부터 이어서 처리한다
+@Slf4j
+@Service
+public class UserImportService {
+
+    private static final String INSERT_SQL = "INSERT IGNORE INTO users " +
+            "(id, email, password, user_role, nickname, security_version, created_at, modified_at) " +
+            "VALUES (?, ?, ?, ?, ?, 0, ?, ?)";
+    private static final int MAX_NICKNAME_LENGTH = 50;
+
+    private final UserRepository userRepository;
+    private final UserImportJobRepository userImportJobRepository;
+    private final NicknameTrigramService nicknameTrigramService;
+    private final UserIndexLoader userIndexLoader;
+    private final PasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final TimeOrderedIdGenerator idGenerator;
+    private final ExecutorService hashExecutor;
+    private final ThreadPoolExecutor jobExecutor;
+    private final Set<Long> runningJobs = ConcurrentHashMap.newKeySet();
+    private final int chunkSize;
+
+    public UserImportService(
+            UserRepository userRepository,
+            UserImportJobRepository userImportJobRepository,
+            NicknameTrigramService nicknameTrigramService,
+            UserIndexLoader userIndexLoader,
+            PasswordEncoder passwordEncoder,
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${spring.jpa.properties.id.generator.node-id:}") String nodeId,
+            @Value("${user.import.chunk-size:1000}") int chunkSize,
+            @Value("${user.import.hash-threads:0}") int hashThreads,
+            @Value("${user.import.job-threads:1}") int jobThreads
+    ) {
+        this.userRepository = userRepository;
+        this.userImportJobRepository = userImportJobRepository;
+        this.nicknameTrigramService = nicknameTrigramService;
+        this.userIndexLoader = userIndexLoader;
+        this.passwordEncoder = passwordEncoder;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.idGenerator = new TimeOrderedIdGenerator(TimeOrderedIdGenerator.parseNodeId(nodeId));
+        this.chunkSize = chunkSize;
+
+        // 가입/로그인용 bcrypt 풀과 분리해 가져오기가 대기열을 차지하지 않게 한다
+        int threads = hashThreads > 0 ? hashThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.hashExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "user-import-hash-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // 가져오기 작업은 동시에 job-threads 개까지만 돌린다. 대기열을 두지 않고 넘치면 바로 거절한다
+        AtomicInteger jobNumber = new AtomicInteger();
+        this.jobExecutor = new ThreadPoolExecutor(
+                jobThreads, jobThreads, 0L, TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "user-import-" + jobNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    // 작업을 등록하고 바로 돌려준다. 진행 상황은 GET /admin/users/import/{jobId} 로 확인한다
+    public UserImportResponse importUsers(InputStream body, String contentType, Long jobId) {
+        String format = resolveFormat(contentType);
+        if (jobId != null && runningJobs.contains(jobId)) {
+            throw new InvalidRequestException("이미 진행 중인 가져오기 작업입니다.");
+        }
+
+        UserImportJob job = startJob(jobId, format);
+        if (job.getStatus() == UserImportStatus.COMPLETED) {
+            return new UserImportResponse(job);
+        }
+        if (!runningJobs.add(job.getId())) {
+            throw new InvalidRequestException("이미 진행 중인 가져오기 작업입니다.");
+        }
+
+        // 요청이 끝나면 본문 스트림을 더 읽을 수 없으므로 임시 파일로 받아 둔다
+        Path file;
+        try {
+            file = spool(body, job.getId(), format);
+        } catch (IOException e) {
+            runningJobs.remove(job.getId());
+            updateJob(job.getId(), current -> current.fail(e.getMessage()));
+            throw new ServerException("가져오기 본문을 저장하지 못했습니다. jobId " + job.getId() + " 로 다시 요청하면 이어서 처리합니다.");
+        }
+
+        long skip = job.getProcessedRows();
+        try {
+            jobExecutor.execute(() -> run(job.getId(), format, file, skip));
+        } catch (RejectedExecutionException e) {
+            runningJobs.remove(job.getId());
+            deleteQuietly(file);
+            updateJob(job.getId(), current -> current.fail("다른 가져오기 작업이 진행 중입니다."));
+            throw new TooManyRequestsException("다른 가져오기 작업이 진행 중입니다. 잠시 후 jobId " + job.getId() + " 로 다시 요청해 주세요.", 60);
+        }
+
+        return new UserImportResponse(job);
+    }
+
+    public UserImportResponse getProgress(Long jobId) {
+        return new UserImportResponse(findJob(jobId));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+        hashExecutor.shutdownNow();
+    }
+
+    private void run(Long jobId, String format, Path file, long skip) {
+        long runStartedAt = System.currentTimeMillis();
+        long runProcessed = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            UserImportReader importReader = new UserImportReader(reader, format, objectMapper);
+
+            // 재개: 이미 커밋된 행은 읽고 버린다
+            for (long i = 0; i < skip; i++) {
+                if (importReader.next() == null) {
+                    break;
+                }
+            }
+
+            List<UserImportRow> chunk = new ArrayList<>(chunkSize);
+            while (true) {
+                UserImportRow row = importReader.next();
+                if (row != null) {
+                    chunk.add(row);
+                }
+                if (chunk.size() == chunkSize || (row == null && !chunk.isEmpty())) {
+                    processChunk(jobId, chunk, runStartedAt, runProcessed);
+                    runProcessed += chunk.size();
+                    chunk = new ArrayList<>(chunkSize);
+                }
+                if (row == null) {
+                    break;
+                }
+            }
+
+            UserImportJob completed = updateJob(jobId, UserImportJob::complete);
+            log.info("사용자 가져오기 완료 - jobId: {}, 처리: {}건, 추가: {}건, 중복: {}건, 오류: {}건, {}건/초",
+                    completed.getId(), completed.getProcessedRows(), completed.getImportedRows(),
+                    completed.getDuplicateRows(), completed.getInvalidRows(), (long) completed.getRowsPerSecond());
+        } catch (IOException | RuntimeException e) {
+            log.error("사용자 가져오기 실패 - jobId: {}", jobId, e);
+            updateJob(jobId, current -> current.fail(e.getMessage()));
+        } finally {
+            runningJobs.remove(jobId);
+            deleteQuietly(file);
+        }
+    }
+
+    private void processChunk(Long jobId, List<UserImportRow> rows, long runStartedAt, long runProcessed) {
+        // 검증과 청크 안 중복 제거. 이메일은 대소문자를 구분하지 않는다
+        Map<String, UserImportRow> valid = new LinkedHashMap<>();
+        Map<String, UserRole> roles = new LinkedHashMap<>();
+        long invalid = 0;
+        long duplicates = 0;
+        for (UserImportRow row : rows) {
+            UserRole role = validate(row);
+            if (role == null) {
+                invalid++;
+                continue;
+            }
+            String key = row.getEmail().trim().toLowerCase(Locale.ROOT);
+            if (valid.putIfAbsent(key, row) != null) {
+                duplicates++;
+                continue;
+            }
+            roles.put(key, role);
+        }
+
+        if (!valid.isEmpty()) {
+            Set<String> existing = new HashSet<>();
+            List<String> emails = valid.values().stream().map(row -> row.getEmail().trim()).toList();
+            for (String email : userRepository.findExistingEmails(emails)) {
+                existing.add(email.toLowerCase(Locale.ROOT));
+            }
+            duplicates += existing.size();
+            existing.forEach(valid::remove);
+        }
+
+        List<String> keys = new ArrayList<>(valid.keySet());
+        List<String> hashes = hashAll(keys.stream().map(key -> valid.get(key).getPassword()).toList());
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(keys.size());
+        Map<Long, UserSearchResponse> candidates = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            UserImportRow row = valid.get(keys.get(i));
+            long id = idGenerator.nextId();
+            String email = row.getEmail().trim();
+            String nickname = row.getNickname().trim();
+            batch.add(new Object[]{id, email, hashes.get(i), roles.get(keys.get(i)).name(), nickname, now, now});
+            candidates.put(id, new UserSearchResponse(id, email, nickname));
+        }
+
+        // 이번 요청에서 처리한 행 기준 처리량. 재개 전 행은 포함하지 않는다
+        double rowsPerSecond = (runProcessed + rows.size()) * 1000.0 / Math.max(System.currentTimeMillis() - runStartedAt, 1);
+        long processed = rows.size();
+        long invalidRows = invalid;
+        long duplicateRows = duplicates;
+        List<UserSearchResponse> inserted = transactionTemplate.execute(status -> {
+            List<UserSearchResponse> insertedRows = new ArrayList<>();
+            if (!batch.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                // INSERT IGNORE 는 중복 확인 뒤에 다른 곳에서 가입한 이메일을 조용히 건너뛰고,
+                // 배치를 한 문장으로 합치면 드라이버가 행별 결과를 주지 않는다. id 는 여기서 만든 값이므로 id 로 다시 확인한다
+                Map<Long, String> nicknames = new LinkedHashMap<>();
+                for (Long id : userRepository.findExistingIds(candidates.keySet())) {
+                    UserSearchResponse row = candidates.get(id);
+                    insertedRows.add(row);
+                    nicknames.put(id, row.getNickname());
+                }
+                nicknameTrigramService.indexAll(nicknames);
+            }
+            UserImportJob job = findJob(jobId);
+            job.recordChunk(processed, insertedRows.size(), duplicateRows + batch.size() - insertedRows.size(), invalidRows, rowsPerSecond);
+            return insertedRows;
+        });
+
+        // 커밋된 사용자는 이 노드의 블룸 필터와 검색 인덱스에 바로 반영한다. 다른 노드는 주기 반영으로 따라온다
+        inserted.forEach(userIndexLoader::register);
+    }
+
+    private static Path spool(InputStream body, Long jobId, String format) throws IOException {
+        Path file = Files.createTempFile("user-import-" + jobId + "-", "." + format);
+        try {
+            Files.copy(body, file, StandardCopyOption.REPLACE_EXISTING);
+            return file;
+        } catch (IOException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("가져오기 임시 파일 삭제 실패 - {}", file, e);
+        }
+    }
+
+    // 잘못된 행이면 null, 아니면 권한
+    private UserRole validate(UserImportRow row) {
+        if (!StringUtils.hasText(row.getEmail()) || !row.getEmail().contains("@")
+                || !StringUtils.hasText(row.getPassword())
+                || !StringUtils.hasText(row.getNickname()) || row.getNickname().trim().length() > MAX_NICKNAME_LENGTH) {
+            return null;
+        }
+        if (!StringUtils.hasText(row.getUserRole())) {
+            return UserRole.USER;
+        }
+        try {
+            return UserRole.of(row.getUserRole().trim());
+        } catch (InvalidRequestException e) {
+            return null;
+        }
+    }
+
+    private List<String> hashAll(List<String> passwords) {
+        List<Future<String>> futures = new ArrayList<>(passwords.size());
+        for (String password : passwords) {
+            futures.add(hashExecutor.submit(() -> passwordEncoder.encodeOnCurrentThread(password)));
+        }
+
+        List<String> hashes = new ArrayList<>(passwords.size());
+        try {
+            for (Future<String> future : futures) {
+                hashes.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new ServerException("비밀번호 해시 중 중단되었습니다.");
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new ServerException("비밀번호 해시에 실패했습니다.");
+        }
+        return hashes;
+    }
+
+    private UserImportJob startJob(Long jobId, String format) {
+        return transactionTemplate.execute(status -> {
+            if (jobId == null) {
+                return userImportJobRepository.save(new UserImportJob(format));
+            }
+            UserImportJob job = findJob(jobId);
+            if (!job.getFormat().equals(format)) {
+                throw new InvalidRequestException("이전 요청과 형식이 다릅니다: " + job.getFormat());
+            }
+            if (job.getStatus() != UserImportStatus.COMPLETED) {
+                job.resume();
+            }
+            return job;
+        });
+    }
+
+    private UserImportJob updateJob(Long jobId, Consumer<UserImportJob> update) {
+        return transactionTemplate.execute(status -> {
+            UserImportJob job = findJob(jobId);
+            update.accept(job);
+            return job;
+        });
+    }
+
+    private UserImportJob findJob(Long jobId) {
+        return userImportJobRepository.findById(jobId)
+                .orElseThrow(() -> new InvalidRequestException("가져오기 작업을 찾을 수 없습니다."));
+    }
+
+    private static String resolveFormat(String contentType) {
+        if (contentType != null) {
+            String type = contentType.toLowerCase(Locale.ROOT);
+            if (type.startsWith("text/csv")) {
+                return UserImportReader.CSV;
+            }
+            if (type.startsWith("application/x-ndjson")) {
+                return UserImportReader.NDJSON;
+            }
+        }
+        throw new InvalidRequestException("text/csv 또는 application/x-ndjson 형식만 지원합니다.");
+    }
+}
@@ -2,14 +2,25 @@ package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.dto.response.UserAutocompleteResponse;
 import org.example.expert.domain.user.dto.response.UserSearchResponse;
 import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.index.ChosungIndex;
+import org.example.expert.domain.user.index.NicknameAutocompleteIndex;
+import org.example.expert.domain.user.index.NicknameBkTree;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -17,31 +28,40 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class UserSearchService {
 
+    private static final int MAX_AUTOCOMPLETE_SIZE = 50;
+    private static final int MAX_FUZZY_DISTANCE = 2;
+
     private final UserRepository userRepository;
+    private final NicknameAutocompleteIndex nicknameAutocompleteIndex;
+    private final ChosungIndex chosungIndex;
+    private final NicknameBkTree nicknameBkTree;
+    private final NicknameTrigramService nicknameTrigramService;
 
     @Cacheable(value = "userSearch", key = "#nickname + '_' + #page + '_' + #size")
     public Page<UserSearchResponse> searchUsersByNickname(String nickname, int page, int size) {
         long startTime = System.currentTimeMillis();
 
-        PageRequest pageable = PageRequest.of(page - 1, size);
-        Page<User> users = userRepository.findByNicknameExact(nickname, pageable);
+        Page<UserSearchResponse> users = findByNicknameExact(nickname, PageRequest.of(page - 1, size));
 
         long endTime = System.currentTimeMillis();
         log.info("닉네임 검색 소요시간: {}ms, 검색어: {}, 결과 수: {}",
                 endTime - startTime, nickname, users.getTotalElements());
 
-        return users.map(user -> new UserSearchResponse(
-                user.getId(),
-                user.getEmail(),
-                user.getNickname()
-        ));
+        return users;
     }
 
     public Page<UserSearchResponse> searchUsersByNicknameLike(String nickname, int page, int size) {
         long startTime = System.currentTimeMillis();
 
         PageRequest pageable = PageRequest.of(page - 1, size);
-        Page<User> users = userRepository.findByNicknameLike(nickname, pageable);
+        Page<User> users;
+        // 세 글자 이상이면 trigram 테이블로 후보를 좁힌 뒤 LIKE 로 확인한다. 백필이 끝나기 전에는 기존 LIKE 검색
+        Set<String> trigrams = NicknameTrigramService.trigrams(nickname);
+        if (!trigrams.isEmpty() && nicknameTrigramService.isReady()) {
+            users = userRepository.findByNicknameTrigrams(nickname, trigrams, trigrams.size(), pageable);
+        } else {
+            users = userRepository.findByNicknameLike(nickname, pageable);
+        }
 
         long endTime = System.currentTimeMillis();
         log.info("닉네임 LIKE 검색 소요시간: {}ms, 검색어: {}, 결과 수:{}",
@@ -53,4 +73,85 @@ public class UserSearchService {
                 user.getNickname()
         ));
     }
+
+    // 메모리 접두어 인덱스에서 바로 응답한다. 기동 직후 적재 전에는 DB 의 접두어 검색으로 대신한다
+    public List<UserAutocompleteResponse> autocompleteNickname(String prefix, int size) {
+        if (!StringUtils.hasText(prefix)) {
+            return List.of();
+        }
+        int limit = Math.min(Math.max(size, 1), MAX_AUTOCOMPLETE_SIZE);
+
+        if (nicknameAutocompleteIndex.isReady()) {
+            return nicknameAutocompleteIndex.findByPrefix(prefix, limit).stream()
+                    .map(match -> new UserAutocompleteResponse(match.getId(), match.getValue()))
+                    .collect(Collectors.toList());
+        }
+
+        return userRepository.findByNicknameStartingWithOrderByNicknameAscIdAsc(prefix.trim(), PageRequest.of(0, limit)).stream()
+                .map(user -> new UserAutocompleteResponse(user.getId(), user.getNickname()))
+                .collect(Collectors.toList());
+    }
+
+    // 초성 검색은 SQL 로 대신할 방법이 없으므로 인덱스 적재 전에는 빈 결과를 돌려준다
+    public Page<UserSearchResponse> searchUsersByChosung(String query, int page, int size) {
+        PageRequest pageable = PageRequest.of(page - 1, size);
+        if (!StringUtils.hasText(query)) {
+            return Page.empty(pageable);
+        }
+        if (!chosungIndex.isReady()) {
+            log.warn("초성 인덱스 적재 전이라 빈 결과를 반환합니다. 검색어: {}", query);
+            return Page.empty(pageable);
+        }
+
+        long startTime = System.nanoTime();
+
+        List<UserSearchResponse> content = chosungIndex.findByPrefix(query, (int) pageable.getOffset(), size);
+        long total = chosungIndex.countByPrefix(query);
+
+        log.info("닉네임 초성 검색 소요시간: {}us, 검색어: {}, 결과 수: {}",
+                (System.nanoTime() - startTime) / 1000, query, total);
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    // 오타를 허용하는 검색. 편집 거리가 가까운 순, 같으면 id 순으로 정렬해 페이지를 나눈다
+    public Page<UserSearchResponse> searchUsersByNicknameFuzzy(String nickname, int maxDistance, int page, int size) {
+        PageRequest pageable = PageRequest.of(page - 1, size);
+        if (!StringUtils.hasText(nickname)) {
+            return Page.empty(pageable);
+        }
+
+        // 인덱스 적재 전에는 정확히 일치하는 닉네임만 찾는다.
+        // 같은 빈 안의 호출은 캐시 프록시를 거치지 않으므로 @Cacheable 메서드 대신 저장소를 직접 조회한다
+        if (!nicknameBkTree.isReady()) {
+            return findByNicknameExact(nickname, pageable);
+        }
+
+        long startTime = System.nanoTime();
+
+        // 허용 거리가 검색어 길이 이상이면 짧은 닉네임 대부분이 걸리므로 길이보다 작게 줄인다 (한 글자는 정확히 일치만)
+        int queryLength = NicknameBkTree.normalize(nickname).length();
+        int distance = Math.min(Math.min(Math.max(maxDistance, 1), MAX_FUZZY_DISTANCE), queryLength - 1);
+
+        // 요청한 페이지까지와 다음 페이지 유무를 알 수 있는 한 건만 더 모은다. 전체 건수는 세지 않으므로
+        // total 은 다음 페이지가 있으면 그 첫 건까지만 센 하한값이다
+        int limit = (int) Math.min(Integer.MAX_VALUE - 1L, pageable.getOffset() + size) + 1;
+        List<NicknameBkTree.FuzzyMatch> matches = nicknameBkTree.search(nickname, distance, limit);
+
+        int from = (int) Math.min(pageable.getOffset(), matches.size());
+        int to = Math.min(from + size, matches.size());
+        List<UserSearchResponse> content = matches.subList(from, to).stream()
+                .map(NicknameBkTree.FuzzyMatch::getUser)
+                .collect(Collectors.toList());
+
+        log.info("닉네임 오타 허용 검색 소요시간: {}us, 검색어: {}, 결과 수: {}",
+                (System.nanoTime() - startTime) / 1000, nickname, matches.size());
+
+        return new PageImpl<>(content, pageable, matches.size());
+    }
+
+    private Page<UserSearchResponse> findByNicknameExact(String nickname, Pageable pageable) {
+        return userRepository.findByNicknameExact(nickname, pageable)
+                .map(user -> new UserSearchResponse(user.getId(), user.getEmail(), user.getNickname()));
+    }
 }
@@ -2,10 +2,12 @@ package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.service.RefreshTokenService;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.index.UserSecurityVersionTable;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,6 +21,8 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final S3Service s3Service;
+    private final UserSecurityVersionTable userSecurityVersionTable;
+    private final RefreshTokenService refreshTokenService;
 
     public UserResponse getUser(long userId) {
         User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
@@ -29,7 +33,7 @@ public class UserService {
     public void changePassword(long userId, UserChangePasswordRequest userChangePasswordRequest) {
         validateNewPassword(userChangePasswordRequest);
 
-        User user = userRepository.findById(userId)
+        User user = userRepository.findFreshById(userId)
                 .orElseThrow(() -> new InvalidRequestException("User not found"));
 
         if (passwordEncoder.matches(userChangePasswordRequest.getNewPassword(), user.getPassword())) {
@@ -41,11 +45,23 @@ public class UserService {
         }
 
         user.changePassword(passwordEncoder.encode(userChangePasswordRequest.getNewPassword()));
+        userSecurityVersionTable.updateAfterCommit(user.getId(), user.getSecurityVersion());
+        // 변경 이전에 발급된 리프레시 토큰으로 새 access token 을 받지 못하게 함께 폐기한다
+        refreshTokenService.revokeAll(user.getId());
+    }
+
+    // 로그인 재해시 결과 반영. 벌크 UPDATE 는 User 캐시 영역 전체를 비우므로 엔티티를 고쳐
+    // 커밋 시 해당 사용자의 캐시 항목만 갱신되게 한다
+    @Transactional
+    public boolean rehashPassword(Long userId, String oldPassword, String newPassword) {
+        return userRepository.findByIdForUpdate(userId)
+                .map(user -> user.rehashPassword(oldPassword, newPassword))
+                .orElse(false);
     }
 
     @Transactional
     public String uploadProfileImage(Long userId, MultipartFile file) {
-        User user = userRepository.findById(userId)
+        User user = userRepository.findFreshById(userId)
                 .orElseThrow(() -> new InvalidRequestException("User not found"));
 
         // 기존 프로필 이미지가 있다면 삭제
@@ -62,7 +78,7 @@ public class UserService {
 
     @Transactional
     public void deleteProfileImage(Long userId) {
-        User user = userRepository.findById(userId)
+        User user = userRepository.findFreshById(userId)
                 .orElseThrow(() -> new InvalidRequestException("User not found"));
 
         if (user.getProfileImageUrl() != null)  {
@@ -0,0 +1,25 @@
+package org.example.benchmark.id;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// id 생성 방식 비교용 엔티티. 기본 엔티티 스캔 범위(org.example.expert) 밖에 두어 벤치마크에서만 매핑한다
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "benchmark_identity_rows")
+public class IdentityRow {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private String payload;
+
+    public IdentityRow(String payload) {
+        this.payload = payload;
+    }
+}
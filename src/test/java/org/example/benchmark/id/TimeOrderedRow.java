@@ -0,0 +1,24 @@
+package org.example.benchmark.id;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.id.TimeOrderedId;
+
+// id 생성 방식 비교용 엔티티. 컬럼은 IdentityRow 와 같고 id 생성 방식만 다르다
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "benchmark_time_ordered_rows")
+public class TimeOrderedRow {
+
+    @Id @TimeOrderedId
+    private Long id;
+    private String payload;
+
+    public TimeOrderedRow(String payload) {
+        this.payload = payload;
+    }
+}
@@ -0,0 +1,130 @@
+package org.example.expert.client;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.client.dto.WeatherDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherClientTest {
+
+    private static final byte[] BODY = "[{\"date\":\"01-01\",\"weather\":\"Sunny\"}]".getBytes(StandardCharsets.UTF_8);
+
+    private HttpServer server;
+    private final AtomicInteger status = new AtomicInteger(200);
+    private final AtomicLong delayMs = new AtomicLong(0);
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // 지연과 상태 코드를 바꿀 수 있는 로컬 날씨 API
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/f-api/weather.json", exchange -> {
+            requestCount.incrementAndGet();
+            try {
+                Thread.sleep(delayMs.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status.get(), BODY.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(BODY);
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void 정상_응답이면_날씨_표를_돌려준다() {
+        // given
+        WeatherClient weatherClient = client(30000);
+
+        // when
+        List<WeatherDto> table = weatherClient.fetchWeatherTable().orElseThrow();
+
+        // then
+        assertEquals(1, table.size());
+        assertEquals("Sunny", table.get(0).getWeather());
+    }
+
+    @Test
+    void 응답이_느리면_읽기_타임아웃으로_빠르게_실패한다() {
+        // given
+        WeatherClient weatherClient = client(30000);
+        delayMs.set(3000);
+
+        // when
+        long start = System.currentTimeMillis();
+        Optional<List<WeatherDto>> table = weatherClient.fetchWeatherTable();
+        long elapsed = System.currentTimeMillis() - start;
+
+        // then
+        assertTrue(table.isEmpty());
+        assertTrue(elapsed < 2000, "읽기 타임아웃 안에 실패해야 한다: " + elapsed + "ms");
+    }
+
+    @Test
+    void 실패가_이어지면_회로가_열리고_호출하지_않고_실패를_알린다() {
+        // given
+        WeatherClient weatherClient = client(30000);
+        assertTrue(weatherClient.fetchWeatherTable().isPresent());
+        status.set(500);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertTrue(weatherClient.fetchWeatherTable().isEmpty());
+        }
+        int requestsWhenOpened = requestCount.get();
+        Optional<List<WeatherDto>> rejected = weatherClient.fetchWeatherTable();
+
+        // then
+        assertEquals(CircuitBreaker.State.OPEN, weatherClient.getCircuitState());
+        assertEquals(requestsWhenOpened, requestCount.get());
+        assertTrue(rejected.isEmpty());
+    }
+
+    @Test
+    void 열린_시간이_지나면_시험_호출이_성공해_회로가_닫힌다() throws Exception {
+        // given
+        WeatherClient weatherClient = client(200);
+        status.set(500);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(weatherClient.fetchWeatherTable().isEmpty());
+        }
+        assertEquals(CircuitBreaker.State.OPEN, weatherClient.getCircuitState());
+
+        // when
+        Thread.sleep(300);
+        status.set(200);
+        assertTrue(weatherClient.fetchWeatherTable().isPresent());
+
+        // then
+        assertEquals(CircuitBreaker.State.CLOSED, weatherClient.getCircuitState());
+    }
+
+    private WeatherClient client(long openDurationMs) {
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        return new WeatherClient(new RestTemplateBuilder(), baseUrl, 500, 500, 500, 4,
+                4, 3, 0.5, openDurationMs, new SimpleMeterRegistry());
+    }
+}
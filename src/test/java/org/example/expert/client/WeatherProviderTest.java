@@ -0,0 +1,91 @@
+package org.example.expert.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.client.dto.WeatherDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class WeatherProviderTest {
+
+    private static final LocalDate NEW_YEAR = LocalDate.of(2025, 1, 1);
+
+    private final WeatherClient weatherClient = mock(WeatherClient.class);
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void 스냅샷이_있으면_원격_호출_없이_기동한다() throws IOException {
+        // given
+        Path snapshot = tempDir.resolve("weather.json");
+        Files.writeString(snapshot, "[{\"date\":\"01-01\",\"weather\":\"Snowy\"}]", StandardCharsets.UTF_8);
+        WeatherProvider weatherProvider = newProvider(snapshot);
+
+        // when
+        weatherProvider.init();
+
+        // then
+        assertEquals("Snowy", weatherProvider.getWeather(NEW_YEAR));
+        verify(weatherClient, never()).fetchWeatherTable();
+    }
+
+    @Test
+    void 스냅샷이_없으면_원격_표를_받아_임시_파일_없이_스냅샷으로_남긴다() throws IOException {
+        // given
+        Path snapshot = tempDir.resolve("nested/weather.json");
+        given(weatherClient.fetchWeatherTable()).willReturn(Optional.of(List.of(new WeatherDto("01-01", "Sunny"))));
+        WeatherProvider weatherProvider = newProvider(snapshot);
+
+        // when
+        weatherProvider.init();
+
+        // then - 옮기기 전의 임시 파일은 남지 않는다
+        assertEquals("Sunny", weatherProvider.getWeather(NEW_YEAR));
+        WeatherDto[] saved = objectMapper.readValue(snapshot.toFile(), WeatherDto[].class);
+        assertEquals("Sunny", saved[0].getWeather());
+        try (Stream<Path> files = Files.list(snapshot.getParent())) {
+            assertEquals(List.of(snapshot), files.toList());
+        }
+    }
+
+    @Test
+    void 갱신에_실패하면_기존_표와_스냅샷을_유지한다() throws IOException {
+        // given
+        Path snapshot = tempDir.resolve("weather.json");
+        given(weatherClient.fetchWeatherTable())
+                .willReturn(Optional.of(List.of(new WeatherDto("01-01", "Sunny"))))
+                .willReturn(Optional.empty());
+        WeatherProvider weatherProvider = newProvider(snapshot);
+        weatherProvider.init();
+        String savedBefore = Files.readString(snapshot);
+
+        // when
+        weatherProvider.refresh();
+
+        // then
+        assertEquals("Sunny", weatherProvider.getWeather(NEW_YEAR));
+        assertEquals(savedBefore, Files.readString(snapshot));
+    }
+
+    private WeatherProvider newProvider(Path snapshot) {
+        return new WeatherProvider(weatherClient, objectMapper, snapshot.toString(), new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,191 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.index.UserSecurityVersionTable;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@Slf4j
+class JwtFilterTest {
+
+    private static final String SECRET_KEY = "7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==";
+
+    private JwtUtil plainJwtUtil;
+    private JwtUtil jwtUtil;
+    private UserSecurityVersionTable userSecurityVersionTable;
+    private JwtFilter jwtFilter;
+
+    @BeforeEach
+    void setUp() {
+        plainJwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(plainJwtUtil, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(plainJwtUtil, "cacheMaxSize", 1000);
+        plainJwtUtil.init();
+        jwtUtil = spy(plainJwtUtil);
+
+        userSecurityVersionTable = new UserSecurityVersionTable(mock(UserRepository.class));
+        jwtFilter = newFilter(jwtUtil);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 현재_보안_버전으로_발급된_토큰은_통과한다() throws Exception {
+        // given
+        userSecurityVersionTable.updateAfterCommit(1L, 1L);
+        MockHttpServletRequest request = requestWith(jwtUtil.createToken(1L, "a@example.com", UserRole.USER, "nick", 1L));
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        jwtFilter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // then
+        assertNotNull(chain.getRequest());
+        assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void 권한_변경_이전에_발급된_토큰은_401_로_거절한다() throws Exception {
+        // given - 버전 0 으로 발급한 뒤 권한이 바뀌어 버전 1 이 됐다
+        String token = jwtUtil.createToken(1L, "a@example.com", UserRole.USER, "nick", 0L);
+        userSecurityVersionTable.updateAfterCommit(1L, 1L);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        jwtFilter.doFilter(requestWith(token), response, chain);
+
+        // then
+        assertEquals(401, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void 다른_사용자의_버전_변경은_영향을_주지_않는다() throws Exception {
+        // given
+        userSecurityVersionTable.updateAfterCommit(2L, 5L);
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        jwtFilter.doFilter(requestWith(jwtUtil.createToken(1L, "a@example.com", UserRole.USER, "nick", 0L)),
+                new MockHttpServletResponse(), chain);
+
+        // then
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void 같은_요청에서_두_번_호출돼도_토큰은_한_번만_처리하고_principal_을_남긴다() throws Exception {
+        // given - 서블릿 컨테이너와 시큐리티 체인 양쪽에 등록된 것처럼 체인 안에서 필터를 다시 부른다
+        MockHttpServletRequest request = requestWith(jwtUtil.createToken(1L, "a@example.com", UserRole.USER, "nick", 0L));
+        MockFilterChain inner = new MockFilterChain();
+
+        // when
+        jwtFilter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> jwtFilter.doFilter(req, res, inner));
+
+        // then
+        verify(jwtUtil, times(1)).extractClaims(anyString());
+        assertNotNull(inner.getRequest());
+        AuthUser authUser = (AuthUser) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        assertEquals(1L, authUser.getId());
+        assertEquals(UserRole.USER, authUser.getUserRole());
+        assertEquals("nick", authUser.getNickname());
+    }
+
+    @Test
+    void 서블릿_컨테이너_자동_등록은_꺼져_있다() {
+        // when & then - 시큐리티 체인에서만 실행된다
+        assertFalse(new SecurityConfig(jwtFilter).jwtFilterRegistration().isEnabled());
+    }
+
+    @Test
+    void 요청당_할당량_비교_테스트() throws Exception {
+        log.info("==== JwtFilter 요청당 할당량 비교 테스트 시작 ====");
+
+        // 스파이는 호출 기록이 할당에 섞이므로 실제 객체로 만든 필터를 쓴다
+        JwtFilter filter = newFilter(plainJwtUtil);
+        int iterations = 20000;
+        String token = plainJwtUtil.createToken(1L, "a@example.com", UserRole.USER, "nick", 0L);
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        // 워밍업
+        for (int i = 0; i < 2000; i++) {
+            runTwiceOnSeparateRequests(filter, token);
+            runNested(filter, token);
+        }
+
+        // 기존: 필터가 두 번 등록돼 요청마다 전체 처리가 두 번 일어난다
+        long bytes1 = threadMXBean.getThreadAllocatedBytes(threadId);
+        long start1 = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            runTwiceOnSeparateRequests(filter, token);
+        }
+        long twiceNanos = System.nanoTime() - start1;
+        long twiceBytes = threadMXBean.getThreadAllocatedBytes(threadId) - bytes1;
+
+        // 개선: 체인 안의 두 번째 호출은 이미 처리한 요청으로 보고 바로 넘긴다
+        long bytes2 = threadMXBean.getThreadAllocatedBytes(threadId);
+        long start2 = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            runNested(filter, token);
+        }
+        long onceNanos = System.nanoTime() - start2;
+        long onceBytes = threadMXBean.getThreadAllocatedBytes(threadId) - bytes2;
+
+        log.info("두 번 처리: 요청당 {}B, {}ns", twiceBytes / iterations, twiceNanos / iterations);
+        log.info("한 번 처리: 요청당 {}B, {}ns", onceBytes / iterations, onceNanos / iterations);
+        log.info("==== 종료 ====");
+    }
+
+    private JwtFilter newFilter(JwtUtil jwtUtil) {
+        return new JwtFilter(
+                jwtUtil,
+                new TokenRevocationStore(300_000L),
+                userSecurityVersionTable,
+                new JwtRejectionHandler(1024, 10000, 10000, new SimpleMeterRegistry())
+        );
+    }
+
+    private void runTwiceOnSeparateRequests(JwtFilter filter, String token) throws Exception {
+        filter.doFilter(requestWith(token), new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(requestWith(token), new MockHttpServletResponse(), new MockFilterChain());
+        SecurityContextHolder.clearContext();
+    }
+
+    private void runNested(JwtFilter filter, String token) throws Exception {
+        MockFilterChain inner = new MockFilterChain();
+        filter.doFilter(requestWith(token), new MockHttpServletResponse(),
+                (req, res) -> filter.doFilter(req, res, inner));
+        SecurityContextHolder.clearContext();
+    }
+
+    private MockHttpServletRequest requestWith(String bearerToken) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+        request.addHeader("Authorization", bearerToken);
+        return request;
+    }
+}
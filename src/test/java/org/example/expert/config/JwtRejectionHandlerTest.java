@@ -0,0 +1,167 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.index.UserSecurityVersionTable;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@Slf4j
+class JwtRejectionHandlerTest {
+
+    private static final String SECRET_KEY = "7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==";
+
+    private JwtRejectionHandler rejectionHandler;
+    private Key key;
+
+    @BeforeEach
+    void setUp() {
+        rejectionHandler = new JwtRejectionHandler(1024, 10000, 10000, new SimpleMeterRegistry());
+        key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET_KEY));
+    }
+
+    @Test
+    void 거부한_토큰은_TTL_동안_같은_사유로_조회된다() {
+        // given
+        String token = expiredToken();
+        long now = System.currentTimeMillis();
+
+        // when
+        rejectionHandler.remember(token, JwtRejectReason.EXPIRED, now);
+
+        // then
+        assertEquals(JwtRejectReason.EXPIRED, rejectionHandler.lookup(token, now + 1000));
+        assertNull(rejectionHandler.lookup(token, now + 10000));
+        assertNull(rejectionHandler.lookup(token + "x", now));
+    }
+
+    @Test
+    void 거부_응답은_공통_에러_형식으로_작성된다() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        rejectionHandler.reject(response, JwtRejectReason.EXPIRED);
+
+        // then
+        assertEquals(401, response.getStatus());
+        assertEquals("{\"status\":\"UNAUTHORIZED\",\"code\":401,\"message\":\"만료된 JWT 토큰입니다.\"}",
+                response.getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void 한_번_거부한_토큰은_다시_파싱하지_않고_같은_응답으로_거부한다() throws Exception {
+        // given
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtUtil, "cacheMaxSize", 1000);
+        jwtUtil.init();
+        JwtUtil spyJwtUtil = spy(jwtUtil);
+        JwtFilter jwtFilter = new JwtFilter(spyJwtUtil, new TokenRevocationStore(300_000L),
+                new UserSecurityVersionTable(mock(UserRepository.class)), rejectionHandler);
+        String token = expiredToken();
+
+        // when
+        MockHttpServletResponse first = filter(jwtFilter, token);
+        MockHttpServletResponse second = filter(jwtFilter, token);
+
+        // then - 두 번째 요청은 거부 목록에서 바로 돌려보낸다
+        verify(spyJwtUtil, times(1)).extractClaims(anyString());
+        assertEquals(401, second.getStatus());
+        assertEquals(first.getContentAsString(StandardCharsets.UTF_8), second.getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void 잘못된_토큰_거부_처리량_비교_테스트() throws Exception {
+        log.info("==== 잘못된 토큰 거부 처리량 비교 테스트 시작 ====");
+
+        int iterations = 20000;
+        String token = expiredToken();
+        JwtParser parser = Jwts.parserBuilder().setSigningKey(key).build();
+
+        // 워밍업
+        for (int i = 0; i < 2000; i++) {
+            rejectWithParsing(parser, token);
+            rejectWithCache(token);
+        }
+
+        // 기존 방식: 매번 파싱해 예외를 만들고 sendError 로 응답 (로그 출력 비용은 제외)
+        long start1 = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            rejectWithParsing(parser, token);
+        }
+        long parsingNanos = System.nanoTime() - start1;
+
+        // 개선 방식: 최근 거부 목록 조회 후 미리 만든 본문으로 응답
+        long start2 = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            rejectWithCache(token);
+        }
+        long cachedNanos = System.nanoTime() - start2;
+
+        log.info("매번 파싱 후 거부: {} ops/s", iterations * 1_000_000_000L / Math.max(parsingNanos, 1));
+        log.info("거부 캐시 사용: {} ops/s", iterations * 1_000_000_000L / Math.max(cachedNanos, 1));
+
+        // 시간은 실행 환경에 따라 흔들리므로 기록만 하고, 캐시된 거부 사유만 확인한다
+        assertEquals(JwtRejectReason.EXPIRED, rejectionHandler.lookup(token, System.currentTimeMillis()));
+        log.info("==== 종료 ====");
+    }
+
+    private MockHttpServletResponse filter(JwtFilter jwtFilter, String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        jwtFilter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private void rejectWithParsing(JwtParser parser, String token) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            parser.parseClaimsJws(token);
+        } catch (ExpiredJwtException e) {
+            response.sendError(401, "만료된 JWT 토큰입니다.");
+        }
+    }
+
+    private void rejectWithCache(String token) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        long now = System.currentTimeMillis();
+        JwtRejectReason reason = rejectionHandler.lookup(token, now);
+        if (reason == null) {
+            reason = JwtRejectReason.EXPIRED;
+            rejectionHandler.remember(token, reason, now);
+        }
+        rejectionHandler.reject(response, reason);
+    }
+
+    private String expiredToken() {
+        return Jwts.builder()
+                .setSubject("1")
+                .setExpiration(new Date(System.currentTimeMillis() - 1000))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+class JwtUtilTest {
+
+    private static final String SECRET_KEY = "7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==";
+
+    private JwtUtil jwtUtil;
+    private Key key;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtUtil, "cacheMaxSize", 1000);
+        jwtUtil.init();
+
+        key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET_KEY));
+    }
+
+    @Test
+    void 같은_토큰은_캐시된_claims를_반환한다() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "a@a.com", UserRole.USER, "nick", 0L));
+
+        // when
+        Claims first = jwtUtil.extractClaims(token);
+        Claims second = jwtUtil.extractClaims(token);
+
+        // then
+        assertSame(first, second);
+        assertEquals("1", second.getSubject());
+        assertEquals("a@a.com", second.get("email", String.class));
+    }
+
+    @Test
+    void 만료된_토큰은_캐시에_남지_않는다() {
+        // given
+        Date past = new Date(System.currentTimeMillis() - 1000);
+        String token = Jwts.builder()
+                .setSubject("1")
+                .setExpiration(past)
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+
+        // when & then
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.extractClaims(token));
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.extractClaims(token));
+    }
+
+    @Test
+    void 토큰_검증_처리량_비교_테스트() {
+        log.info("==== JWT 검증 처리량 비교 테스트 시작 ====");
+
+        int iterations = 20000;
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "a@a.com", UserRole.USER, "nick", 0L));
+
+        // 워밍업
+        for (int i = 0; i < 2000; i++) {
+            parseWithNewParser(token);
+            jwtUtil.extractClaims(token);
+        }
+
+        // 요청마다 파서를 새로 만드는 기존 방식
+        long start1 = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            parseWithNewParser(token);
+        }
+        long coldNanos = System.nanoTime() - start1;
+
+        // 미리 만든 파서로 매번 검증
+        JwtParser sharedParser = Jwts.parserBuilder().setSigningKey(key).build();
+        long start2 = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sharedParser.parseClaimsJws(token).getBody();
+        }
+        long sharedNanos = System.nanoTime() - start2;
+
+        // 검증된 토큰 캐시 사용
+        Claims cached = jwtUtil.extractClaims(token);
+        long start3 = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            jwtUtil.extractClaims(token);
+        }
+        long cachedNanos = System.nanoTime() - start3;
+
+        log.info("매 요청 파서 생성: {} ops/s", opsPerSecond(iterations, coldNanos));
+        log.info("공유 파서: {} ops/s", opsPerSecond(iterations, sharedNanos));
+        log.info("검증 캐시: {} ops/s", opsPerSecond(iterations, cachedNanos));
+
+        // 시간은 실행 환경에 따라 흔들리므로 기록만 하고, 캐시가 같은 claims 를 돌려주는지만 확인한다
+        assertSame(cached, jwtUtil.extractClaims(token));
+        assertEquals("1", cached.getSubject());
+        log.info("==== 종료 ====");
+    }
+
+    private Claims parseWithNewParser(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    private long opsPerSecond(int iterations, long nanos) {
+        return iterations * 1_000_000_000L / Math.max(nanos, 1);
+    }
+}
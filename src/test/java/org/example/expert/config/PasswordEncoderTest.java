@@ -0,0 +1,98 @@
+package org.example.expert.config;
+
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordEncoderTest {
+
+    private PasswordHashExecutor executor;
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        executor = new PasswordHashExecutor(1, 8, 1, new SimpleMeterRegistry());
+        passwordEncoder = new PasswordEncoder(executor);
+        ReflectionTestUtils.setField(passwordEncoder, "minCost", 4);
+        ReflectionTestUtils.setField(passwordEncoder, "maxCost", 6);
+        ReflectionTestUtils.setField(passwordEncoder, "calibrationSamples", 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void 목표_지연시간_안에_드는_가장_높은_cost_를_고른다() {
+        // given - 어떤 cost 도 목표를 넘지 않는다
+        ReflectionTestUtils.setField(passwordEncoder, "targetLatencyMs", Long.MAX_VALUE);
+
+        // when
+        passwordEncoder.init();
+
+        // then
+        assertEquals(6, passwordEncoder.getCost());
+    }
+
+    @Test
+    void 모든_cost_가_목표를_넘으면_최소_cost_를_쓴다() {
+        // given
+        ReflectionTestUtils.setField(passwordEncoder, "targetLatencyMs", -1L);
+
+        // when
+        passwordEncoder.init();
+
+        // then
+        assertEquals(4, passwordEncoder.getCost());
+    }
+
+    @Test
+    void 저장된_해시의_cost_가_현재보다_낮을_때만_재해시_대상이다() {
+        // given
+        ReflectionTestUtils.setField(passwordEncoder, "configuredCost", 5);
+        passwordEncoder.init();
+
+        String current = BCrypt.withDefaults().hashToString(5, "Password1".toCharArray());
+        String weaker = BCrypt.withDefaults().hashToString(4, "Password1".toCharArray());
+        // 더 빠른 노드가 높은 cost 로 저장한 해시는 그대로 둔다
+        String stronger = BCrypt.withDefaults().hashToString(6, "Password1".toCharArray());
+
+        // when & then
+        assertFalse(passwordEncoder.needsRehash(current));
+        assertTrue(passwordEncoder.needsRehash(weaker));
+        assertFalse(passwordEncoder.needsRehash(stronger));
+        assertFalse(passwordEncoder.needsRehash("plain-text"));
+        assertFalse(passwordEncoder.needsRehash(null));
+    }
+
+    @Test
+    void 백그라운드_재해시_결과는_현재_cost_로_검증된다() throws InterruptedException {
+        // given
+        ReflectionTestUtils.setField(passwordEncoder, "configuredCost", 5);
+        passwordEncoder.init();
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<String> rehashed = new AtomicReference<>();
+
+        // when
+        boolean accepted = passwordEncoder.tryEncodeInBackground("Password1", encoded -> {
+            rehashed.set(encoded);
+            done.countDown();
+        });
+
+        // then
+        assertTrue(accepted);
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertFalse(passwordEncoder.needsRehash(rehashed.get()));
+        assertTrue(passwordEncoder.matches("Password1", rehashed.get()));
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHashExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    void 대기열이_가득_차면_429_예외로_바로_실패한다() {
+        // given - 스레드 1개는 작업 중이고 대기열 2칸이 모두 찼다
+        executor = new PasswordHashExecutor(1, 2, 3, meterRegistry);
+        assertTrue(executor.trySubmit(this::block));
+        assertTrue(executor.trySubmit(this::block));
+        assertTrue(executor.trySubmit(this::block));
+
+        // when
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> executor.execute(() -> "hash"));
+
+        // then
+        assertEquals(3L, exception.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.get("password.hash.rejected").counter().count());
+    }
+
+    @Test
+    void 백그라운드_작업은_대기열이_절반을_넘으면_받지_않는다() {
+        // given - 대기열 4칸 중 절반까지만 백그라운드 작업에 쓴다
+        executor = new PasswordHashExecutor(1, 4, 1, meterRegistry);
+        assertTrue(executor.trySubmit(this::block));
+        assertTrue(executor.trySubmit(this::block));
+        assertTrue(executor.trySubmit(this::block));
+        assertTrue(executor.trySubmit(this::block));
+
+        // when - 대기열 3칸 사용 중
+        boolean accepted = executor.trySubmit(this::block);
+
+        // then - 남은 칸은 로그인 요청 몫으로 남는다
+        assertFalse(accepted);
+        assertEquals(0.0, meterRegistry.get("password.hash.rejected").counter().count());
+    }
+
+    @Test
+    void 작업_예외는_호출한_스레드로_그대로_전달된다() {
+        // given
+        executor = new PasswordHashExecutor(1, 2, 1, meterRegistry);
+
+        // when & then
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> executor.execute(() -> {
+                    throw new IllegalStateException("boom");
+                }));
+        assertEquals("boom", exception.getMessage());
+    }
+
+    private void block() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
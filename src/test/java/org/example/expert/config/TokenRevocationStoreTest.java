@@ -0,0 +1,57 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenRevocationStoreTest {
+
+    private final TokenRevocationStore store = new TokenRevocationStore(300_000L);
+
+    @Test
+    void 폐기한_토큰만_폐기됐다고_판정한다() {
+        // given
+        long expiresAt = System.currentTimeMillis() + 60_000L;
+
+        // when
+        store.revoke("revoked", expiresAt);
+
+        // then
+        assertTrue(store.isRevoked("revoked", expiresAt));
+        assertFalse(store.isRevoked("other", expiresAt));
+        assertFalse(store.isRevoked(null, expiresAt));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void 만료_시각이_다른_버킷의_같은_jti_는_구분한다() {
+        // given
+        long expiresAt = System.currentTimeMillis() + 60_000L;
+        store.revoke("revoked", expiresAt);
+
+        // when & then - 버킷은 exp 로 정해지므로 다른 exp 를 가진 토큰과 섞이지 않는다
+        assertFalse(store.isRevoked("revoked", expiresAt + 600_000L));
+    }
+
+    @Test
+    void 이미_만료된_토큰은_담지_않는다() {
+        // when
+        store.revoke("expired", System.currentTimeMillis() - 1L);
+
+        // then
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void 같은_토큰을_여러_번_폐기해도_한_번만_담긴다() {
+        // given - 동기화가 겹쳐 읽은 구간을 다시 반영하는 경우
+        long expiresAt = System.currentTimeMillis() + 60_000L;
+
+        // when
+        store.revoke("revoked", expiresAt);
+        store.revoke("revoked", expiresAt);
+
+        // then
+        assertEquals(1, store.size());
+    }
+}
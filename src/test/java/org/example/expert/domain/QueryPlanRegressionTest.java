@@ -0,0 +1,365 @@
+package org.example.expert.domain;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QueryDslConfig;
+import org.example.expert.domain.auth.entity.RefreshToken;
+import org.example.expert.domain.auth.entity.RevokedToken;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
+import org.example.expert.domain.auth.repository.RevokedTokenRepository;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.request.TodoCursor;
+import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.entity.TodoWeatherFailure;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoWeatherFailureRepository;
+import org.example.expert.domain.user.entity.NicknameTrigram;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.NicknameTrigramRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.NicknameTrigramService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+// 리포지토리 쿼리가 리팩터링 뒤에도 인덱스를 타는지 확인한다.
+// 실제로 실행된 SQL(SELECT 와 @Modifying UPDATE / DELETE)을 바인딩 값과 함께 기록해 H2(MySQL 모드)에서 EXPLAIN 하고, 풀스캔이 나오면 실패한다.
+// 검색어 LIKE 처럼 원래 풀스캔인 쿼리는 이유와 함께 allowScan 으로 따로 검사한다
+@Slf4j
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Import({QueryDslConfig.class, PersistenceConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanRegressionTest {
+
+    private static final int USER_COUNT = 2000;
+    private static final int TODO_COUNT = 1000;
+    private static final int REVOKED_TOKEN_COUNT = 1000;
+    private static final String[] WEATHERS = {
+            "Sunny", "Cloudy", "Rainy", "Snowy", "Windy", "Foggy", "Stormy", "Humid", "Chilly", "Hazy"
+    };
+
+    // EXPLAIN 결과의 "/* public.todos.tableScan */" 와 바로 뒤의 "/* direct lookup */"(조건 없는 COUNT(*))
+    private static final Pattern TABLE_SCAN =
+            Pattern.compile("/\\*\\s*([\\w.\"]+)\\.tableScan\\s*\\*/(\\s*/\\*\\s*direct lookup\\s*\\*/)?");
+
+    @TestConfiguration
+    static class RecordingDataSourceConfig {
+
+        @Bean
+        static BeanPostProcessor recordingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? RecordingDataSource.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NicknameTrigramRepository nicknameTrigramRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoWeatherFailureRepository todoWeatherFailureRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private User sampleUser;
+    private Todo sampleTodo;
+    private RefreshToken sampleRefreshToken;
+    private LocalDateTime seededAt;
+
+    @BeforeAll
+    void seed() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        seededAt = LocalDateTime.now();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<User> users = new ArrayList<>();
+            for (int i = 0; i < USER_COUNT; i++) {
+                users.add(new User("plan" + i + "@example.com", "password", UserRole.USER, "nickname" + i));
+            }
+            userRepository.saveAll(users);
+
+            // 절반만 trigram 을 넣어 백필 대상 조회에도 결과가 있게 한다
+            List<NicknameTrigram> trigrams = new ArrayList<>();
+            for (User user : users.subList(0, USER_COUNT / 2)) {
+                for (String trigram : NicknameTrigramService.trigrams(user.getNickname())) {
+                    trigrams.add(new NicknameTrigram(trigram, user.getId()));
+                }
+            }
+            nicknameTrigramRepository.saveAll(trigrams);
+
+            // todo 마다 작성자가 담당자로 함께 저장된다. 일곱 건 중 한 건은 날씨 보강 대기 상태
+            List<Todo> todos = new ArrayList<>();
+            for (int i = 0; i < TODO_COUNT; i++) {
+                String weather = i % 7 == 0 ? null : WEATHERS[i % WEATHERS.length];
+                todos.add(new Todo("title" + i, "contents" + i, weather, users.get(i % USER_COUNT)));
+            }
+            todoRepository.saveAll(todos);
+
+            List<Comment> comments = new ArrayList<>();
+            for (int i = 0; i < TODO_COUNT * 3; i++) {
+                comments.add(new Comment("comment" + i, users.get(i % USER_COUNT), todos.get(i % TODO_COUNT)));
+            }
+            commentRepository.saveAll(comments);
+            todoWeatherFailureRepository.save(new TodoWeatherFailure(todos.get(0).getId(), 5, "seed"));
+
+            // 사용자마다 리프레시 토큰 하나, 만료 시각은 골고루 퍼뜨린다
+            List<RefreshToken> refreshTokens = new ArrayList<>();
+            for (int i = 0; i < USER_COUNT; i++) {
+                refreshTokens.add(new RefreshToken("hash" + i, users.get(i).getId(), seededAt.plusMinutes(i + 1)));
+            }
+            refreshTokenRepository.saveAll(refreshTokens);
+
+            long now = System.currentTimeMillis();
+            List<RevokedToken> revokedTokens = new ArrayList<>();
+            for (int i = 0; i < REVOKED_TOKEN_COUNT; i++) {
+                revokedTokens.add(new RevokedToken(UUID.randomUUID().toString(), now + (i + 1) * 60_000L));
+            }
+            revokedTokenRepository.saveAll(revokedTokens);
+
+            sampleUser = users.get(USER_COUNT / 2);
+            sampleTodo = todos.get(TODO_COUNT / 2);
+            sampleRefreshToken = refreshTokens.get(USER_COUNT / 2);
+        });
+
+        // 옵티마이저가 실제 분포를 보도록 통계를 갱신한다
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void 사용자_조회_쿼리는_인덱스를_사용한다() {
+        String email = sampleUser.getEmail();
+        String nickname = sampleUser.getNickname();
+        List<String> trigrams = new ArrayList<>(NicknameTrigramService.trigrams(nickname));
+
+        assertIndexed("findByEmail", () -> userRepository.findByEmail(email));
+        assertIndexed("findFreshById", () -> userRepository.findFreshById(sampleUser.getId()));
+        assertIndexed("findByIdForUpdate", () -> transactionTemplate.executeWithoutResult(status ->
+                userRepository.findByIdForUpdate(sampleUser.getId())));
+        assertIndexed("existsByEmail", () -> userRepository.existsByEmail(email));
+        assertIndexed("findExistingEmails", () -> userRepository.findExistingEmails(List.of(email, "none@example.com")));
+        assertIndexed("findExistingIds", () -> userRepository.findExistingIds(List.of(sampleUser.getId(), -1L)));
+        assertIndexed("findByNicknameExact", () -> userRepository.findByNicknameExact(nickname, PageRequest.of(1, 10)));
+        assertIndexed("findByNicknameTrigrams", () ->
+                userRepository.findByNicknameTrigrams(nickname, trigrams, trigrams.size(), PageRequest.of(1, 10)));
+        assertIndexed("findSearchRowsAfterId", () -> userRepository.findSearchRowsAfterId(sampleUser.getId(), PageRequest.of(0, 100)));
+        assertIndexed("findWithSecurityVersionAfterId", () ->
+                userRepository.findWithSecurityVersionAfterId(sampleUser.getId(), PageRequest.of(0, 100)));
+        assertIndexed("findSecurityVersionChangedSince", () ->
+                userRepository.findSecurityVersionChangedSince(seededAt.plusMinutes(1)));
+        assertIndexed("findUnindexedUserIds", () ->
+                nicknameTrigramRepository.findUnindexedUserIds(sampleUser.getId(), PageRequest.of(0, 100)));
+
+        allowScan("findByNicknameLike", "앞뒤 와일드카드 LIKE. trigram 인덱스 준비 전 대체 경로", () ->
+                userRepository.findByNicknameLike("name1", PageRequest.of(1, 10)));
+        allowScan("findByNicknameStartingWith", "H2 는 파라미터로 받은 LIKE 접두어로 인덱스 조건을 만들지 않는다 (MySQL 은 range)", () ->
+                userRepository.findByNicknameStartingWithOrderByNicknameAscIdAsc("nickname1", PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void 할일_조회_쿼리는_인덱스를_사용한다() {
+        LocalDateTime from = seededAt.minusMinutes(1);
+        LocalDateTime to = seededAt.plusMinutes(1);
+
+        assertIndexed("findByWeather", () -> todoRepository.findByWeather("Sunny"));
+        assertIndexed("findByModifiedAtBetween", () -> todoRepository.findByModifiedAtBetween(from, to));
+        assertIndexed("findByWeatherAndModifiedAtBetween", () ->
+                todoRepository.findByWeatherAndModifiedAtBetween("Sunny", from, to));
+        assertIndexed("findTextRowsAfterId", () -> todoRepository.findTextRowsAfterId(sampleTodo.getId(), PageRequest.of(0, 100)));
+        assertIndexed("findPendingWeatherRowsAfterId", () ->
+                todoRepository.findPendingWeatherRowsAfterId(0L, PageRequest.of(0, 100)));
+        assertIndexed("findIdsAfterId", () -> todoRepository.findIdsAfterId(sampleTodo.getId(), PageRequest.of(0, 100)));
+
+        allowScan("findAllByOrderByModifiedAtDesc", "전체 offset 페이지. 깊은 페이지는 커서 API 를 쓴다", () ->
+                todoRepository.findAllByOrderByModifiedAtDesc(PageRequest.of(1, 10)));
+    }
+
+    @Test
+    void 할일_동적_쿼리는_인덱스를_사용한다() {
+        TodoSearchRequest dateRange = new TodoSearchRequest(null, seededAt.minusMinutes(1), seededAt.plusMinutes(1), null, null);
+
+        assertIndexed("findByIdWithUser", () -> todoRepository.findByIdWithUser(sampleTodo.getId()));
+        assertIndexed("searchTodos(생성일 범위)", () -> todoRepository.searchTodos(dateRange, PageRequest.of(1, 10)));
+        assertIndexed("searchTodos(후보 id)", () ->
+                todoRepository.searchTodos(new TodoSearchRequest(), List.of(sampleTodo.getId()), null, PageRequest.of(0, 10)));
+        assertIndexed("findTodosByCursor", () ->
+                todoRepository.findTodosByCursor(new TodoCursor(seededAt.plusMinutes(1), Long.MAX_VALUE), 10));
+        assertIndexed("scrollTodos(생성일 범위)", () -> transactionTemplate.executeWithoutResult(status ->
+                todoRepository.scrollTodos(dateRange, 100, todo -> {
+                })));
+
+        allowScan("searchTodos(제목)", "앞뒤 와일드카드 LIKE. 텍스트 인덱스가 후보를 주지 못할 때의 대체 경로", () ->
+                todoRepository.searchTodos(new TodoSearchRequest("title1", null, null, null, null), PageRequest.of(1, 10)));
+        allowScan("searchTodos(담당자 닉네임)", "담당자 닉네임 부분 검색은 todo 마다 EXISTS 로 확인한다", () ->
+                todoRepository.searchTodos(new TodoSearchRequest(null, null, null, "name1", null), PageRequest.of(1, 10)));
+    }
+
+    @Test
+    void 댓글과_담당자_조회_쿼리는_인덱스를_사용한다() {
+        assertIndexed("CommentRepository.findByTodoIdWithUser", () -> commentRepository.findByTodoIdWithUser(sampleTodo.getId()));
+        assertIndexed("CommentRepository.findPageByTodoIdWithUser", () ->
+                commentRepository.findPageByTodoIdWithUser(sampleTodo.getId(), PageRequest.of(0, 20)));
+        assertIndexed("ManagerRepository.findByTodoIdWithUser", () -> managerRepository.findByTodoIdWithUser(sampleTodo.getId()));
+    }
+
+    @Test
+    void 토큰_조회와_정리_쿼리는_인덱스를_사용한다() {
+        Long userId = sampleRefreshToken.getUserId();
+
+        assertIndexed("RefreshTokenRepository.findByTokenHash", () ->
+                refreshTokenRepository.findByTokenHash(sampleRefreshToken.getTokenHash()));
+        assertIndexed("RefreshTokenRepository.markUsed", () -> transactionTemplate.executeWithoutResult(status ->
+                refreshTokenRepository.markUsed(sampleRefreshToken.getId())));
+        assertIndexed("RefreshTokenRepository.deleteAllByUserId", () -> transactionTemplate.executeWithoutResult(status ->
+                refreshTokenRepository.deleteAllByUserId(userId)));
+        assertIndexed("RefreshTokenRepository.deleteExpired", () -> transactionTemplate.executeWithoutResult(status ->
+                refreshTokenRepository.deleteExpired(LocalDateTime.now())));
+        assertIndexed("RevokedTokenRepository.findActiveCreatedSince", () ->
+                revokedTokenRepository.findActiveCreatedSince(seededAt.minusMinutes(1), 0L, System.currentTimeMillis(),
+                        PageRequest.of(0, 100)));
+        assertIndexed("RevokedTokenRepository.deleteExpired", () -> transactionTemplate.executeWithoutResult(status ->
+                revokedTokenRepository.deleteExpired(System.currentTimeMillis())));
+    }
+
+    // 벌크 수정은 조건 없이 실행하면 테이블 전체를 잠그므로 조회와 똑같이 인덱스 조건을 확인한다.
+    // 값이 바뀌지 않는 인자로 호출해 다른 테스트의 데이터에 영향을 주지 않는다
+    @Test
+    void 벌크_수정_쿼리는_인덱스를_사용한다() {
+        Long todoId = sampleTodo.getId();
+
+        assertIndexed("TodoRepository.addManagerCount", () -> transactionTemplate.executeWithoutResult(status ->
+                todoRepository.addManagerCount(todoId, 0)));
+        assertIndexed("TodoRepository.addCommentCount", () -> transactionTemplate.executeWithoutResult(status ->
+                todoRepository.addCommentCount(todoId, 0)));
+        assertIndexed("TodoRepository.updatePendingWeather", () -> transactionTemplate.executeWithoutResult(status ->
+                todoRepository.updatePendingWeather(List.of(todoId), "Sunny")));
+        assertIndexed("TodoRepository.reconcileCounts", () -> transactionTemplate.executeWithoutResult(status ->
+                todoRepository.reconcileCounts(todoId, todoId + 1)));
+        assertIndexed("NicknameTrigramRepository.deleteAllByUserId", () -> transactionTemplate.executeWithoutResult(status ->
+                nicknameTrigramRepository.deleteAllByUserId(sampleUser.getId())));
+    }
+
+    private void assertIndexed(String name, Runnable call) {
+        for (String plan : explainAll(name, call)) {
+            List<String> scans = fullScans(plan);
+            if (!scans.isEmpty()) {
+                throw new AssertionError(name + " 의 실행 계획이 풀스캔으로 바뀌었습니다: " + scans + "\n" + plan);
+            }
+        }
+    }
+
+    // 풀스캔이 설계상 불가피한 쿼리. 실행은 확인하되 계획은 로그로만 남긴다
+    private void allowScan(String name, String reason, Runnable call) {
+        for (String plan : explainAll(name, call)) {
+            List<String> scans = fullScans(plan);
+            if (!scans.isEmpty()) {
+                log.info("{} 풀스캔 허용 ({}): {}", name, reason, scans);
+            }
+        }
+    }
+
+    private List<String> explainAll(String name, Runnable call) {
+        List<RecordingDataSource.RecordedQuery> queries;
+        RecordingDataSource.start();
+        try {
+            call.run();
+        } finally {
+            queries = RecordingDataSource.stop();
+        }
+        assertFalse(queries.isEmpty(), name + " 에서 실행된 쿼리가 없습니다.");
+
+        List<String> plans = new ArrayList<>();
+        for (RecordingDataSource.RecordedQuery query : queries) {
+            plans.add(explain(query));
+        }
+        return plans;
+    }
+
+    private String explain(RecordingDataSource.RecordedQuery query) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + query.sql())) {
+                for (Map.Entry<Integer, Object> parameter : query.parameters().entrySet()) {
+                    statement.setObject(parameter.getKey(), parameter.getValue());
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        plan.append(resultSet.getString(1)).append('\n');
+                    }
+                }
+                return plan.toString();
+            }
+        });
+    }
+
+    private static List<String> fullScans(String plan) {
+        List<String> scans = new ArrayList<>();
+        Matcher matcher = TABLE_SCAN.matcher(plan);
+        while (matcher.find()) {
+            if (matcher.group(2) == null) {
+                scans.add(matcher.group(1));
+            }
+        }
+        return scans;
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.expert.domain;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 실행 계획 테스트용 DataSource 래퍼. 기록 중에 실행된 SELECT / UPDATE / DELETE 문과 바인딩 값을 그대로 모아
+// 같은 파라미터로 EXPLAIN 을 다시 돌릴 수 있게 한다
+final class RecordingDataSource {
+
+    record RecordedQuery(String sql, Map<Integer, Object> parameters) {
+    }
+
+    private static final List<RecordedQuery> recorded = new ArrayList<>();
+    private static volatile boolean recording = false;
+
+    private RecordingDataSource() {
+    }
+
+    static DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, (method, args) -> {
+            Object result = invoke(dataSource, method, args);
+            return result instanceof Connection connection ? wrapConnection(connection) : result;
+        });
+    }
+
+    static void start() {
+        synchronized (recorded) {
+            recorded.clear();
+        }
+        recording = true;
+    }
+
+    static List<RecordedQuery> stop() {
+        recording = false;
+        synchronized (recorded) {
+            return new ArrayList<>(recorded);
+        }
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, (method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+                return wrapStatement(statement, (String) args[0]);
+            }
+            return result;
+        });
+    }
+
+    private static PreparedStatement wrapStatement(PreparedStatement statement, String sql) {
+        Map<Integer, Object> parameters = new TreeMap<>();
+        return proxy(PreparedStatement.class, (method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                parameters.put(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                parameters.clear();
+            } else if ((name.equals("executeQuery") || name.equals("executeUpdate") || name.equals("execute"))
+                    && args == null && recording && isExplainable(sql)) {
+                synchronized (recorded) {
+                    recorded.add(new RecordedQuery(sql, new TreeMap<>(parameters)));
+                }
+            }
+            return invoke(statement, method, args);
+        });
+    }
+
+    // INSERT 는 조건이 없어 실행 계획을 볼 필요가 없다
+    private static boolean isExplainable(String sql) {
+        String statement = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return statement.startsWith("select") || statement.startsWith("update") || statement.startsWith("delete");
+    }
+
+    private interface Handler {
+        Object handle(Method method, Object[] args) throws Throwable;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return (T) Proxy.newProxyInstance(RecordingDataSource.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> handler.handle(method, args));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.expert.domain.auth.service;
+
+import org.example.expert.domain.auth.dto.request.SigninRequest;
+import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.request.TokenRefreshRequest;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
+import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserAdminService;
+import org.example.expert.domain.user.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class RefreshTokenRevocationTest {
+
+    private static final String PASSWORD = "Password123";
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserAdminService userAdminService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 비밀번호_변경_이전에_발급된_리프레시_토큰은_거절한다() {
+        // given
+        String email = newEmail();
+        try {
+            String refreshToken = signupAndSignin(email);
+            long userId = userRepository.findByEmail(email).orElseThrow().getId();
+
+            // when
+            userService.changePassword(userId, new UserChangePasswordRequest(PASSWORD, "NewPassword123"));
+
+            // then
+            AuthException exception = assertThrows(AuthException.class,
+                    () -> authService.refresh(new TokenRefreshRequest(refreshToken)));
+            assertEquals("유효하지 않은 리프레시 토큰입니다.", exception.getMessage());
+        } finally {
+            cleanup(email);
+        }
+    }
+
+    @Test
+    void 권한_변경_이전에_발급된_리프레시_토큰은_거절한다() {
+        // given
+        String email = newEmail();
+        try {
+            String refreshToken = signupAndSignin(email);
+            long userId = userRepository.findByEmail(email).orElseThrow().getId();
+
+            // when
+            userAdminService.changeUserRole(userId, new UserRoleChangeRequest("ADMIN"));
+
+            // then
+            assertThrows(AuthException.class, () -> authService.refresh(new TokenRefreshRequest(refreshToken)));
+        } finally {
+            cleanup(email);
+        }
+    }
+
+    private String signupAndSignin(String email) {
+        authService.signup(new SignupRequest(email, PASSWORD, "USER", email.substring(0, email.indexOf('@'))));
+        return authService.signin(new SigninRequest(email, PASSWORD)).getRefreshToken();
+    }
+
+    private String newEmail() {
+        return "refresh_" + UUID.randomUUID().toString().substring(0, 8) + "@example.com";
+    }
+
+    private void cleanup(String email) {
+        userRepository.findByEmail(email).ifPresent(user -> {
+            jdbcTemplate.update("DELETE FROM refresh_tokens WHERE user_id = ?", user.getId());
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", user.getId());
+        });
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.expert.domain.auth.service;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QueryDslConfig;
+import org.example.expert.domain.auth.entity.RefreshToken;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 재사용 감지 시의 폐기가 호출한 쪽 트랜잭션과 따로 커밋되는지 보려면 스프링 빈(프록시)을 거쳐야 하고,
+// 테스트 자체 트랜잭션이 감싸지 않도록 각 호출이 스스로 커밋하게 둔다
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, PersistenceConfig.class, RefreshTokenService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RefreshTokenServiceTest {
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenRepository.deleteAll();
+    }
+
+    @Test
+    void 리프레시_토큰은_한_번만_사용할_수_있다() {
+        // given
+        String rawToken = refreshTokenService.issue(1L);
+
+        // when
+        Long userId = refreshTokenService.consume(rawToken);
+
+        // then
+        assertEquals(1L, userId);
+        AuthException exception = assertThrows(AuthException.class, () -> refreshTokenService.consume(rawToken));
+        assertEquals("이미 사용된 리프레시 토큰입니다.", exception.getMessage());
+    }
+
+    @Test
+    void 사용된_토큰이_재사용되면_해당_사용자의_토큰을_모두_폐기한다() {
+        // given - 탈취된 토큰으로 먼저 교체한 뒤, 정상 사용자가 같은 토큰을 다시 쓴다
+        String stolenToken = refreshTokenService.issue(1L);
+        refreshTokenService.consume(stolenToken);
+        String rotatedToken = refreshTokenService.issue(1L);
+        String otherUserToken = refreshTokenService.issue(2L);
+
+        // when
+        assertThrows(AuthException.class, () -> refreshTokenService.consume(stolenToken));
+
+        // then - 교체로 받은 토큰도 쓸 수 없고, 다른 사용자의 토큰은 그대로다
+        AuthException exception = assertThrows(AuthException.class, () -> refreshTokenService.consume(rotatedToken));
+        assertEquals("유효하지 않은 리프레시 토큰입니다.", exception.getMessage());
+        assertEquals(2L, refreshTokenService.consume(otherUserToken));
+    }
+
+    @Test
+    void 호출한_트랜잭션이_롤백돼도_재사용_감지로_인한_폐기는_남는다() {
+        // given
+        String stolenToken = refreshTokenService.issue(1L);
+        refreshTokenService.consume(stolenToken);
+        refreshTokenService.issue(1L);
+        refreshTokenService.issue(2L);
+
+        // when - 바깥 트랜잭션에서 다른 쓰기를 한 뒤 재사용 토큰 때문에 실패한다
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        assertThrows(AuthException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+            refreshTokenRepository.save(new RefreshToken("outer-write", 3L, LocalDateTime.now().plusDays(1)));
+            refreshTokenService.consume(stolenToken);
+        }));
+
+        // then - 바깥 쓰기는 롤백되고, 1번 사용자의 토큰 폐기는 커밋되어 있다
+        assertEquals(0, countByUserId(1L));
+        assertEquals(1, countByUserId(2L));
+        assertEquals(0, countByUserId(3L));
+    }
+
+    @Test
+    void 발급하지_않은_토큰은_거절한다() {
+        // when & then
+        AuthException exception = assertThrows(AuthException.class, () -> refreshTokenService.consume("unknown"));
+        assertEquals("유효하지 않은 리프레시 토큰입니다.", exception.getMessage());
+    }
+
+    private long countByUserId(Long userId) {
+        return refreshTokenRepository.findAll().stream()
+                .filter(refreshToken -> refreshToken.getUserId().equals(userId))
+                .count();
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.expert.domain.common.id;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.example.benchmark.id.IdentityRow;
+import org.example.benchmark.id.TimeOrderedRow;
+import org.example.expert.ExpertApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Slf4j
+@SpringBootTest
+class TimeOrderedIdBenchmarkTest {
+
+    private static final int TOTAL_ROWS = 20000;
+    private static final int CHUNK_SIZE = 1000;
+
+    // 벤치마크 엔티티는 기본 스캔 밖에 있으므로 이 테스트의 컨텍스트에서만 함께 스캔한다
+    @TestConfiguration
+    @EntityScan(basePackageClasses = {ExpertApplication.class, IdentityRow.class})
+    static class BenchmarkEntityConfig {
+    }
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void IDENTITY_와_시간순_id_의_대량_저장_처리량_비교_테스트() {
+        log.info("==== ID 생성 방식별 대량 저장 처리량 비교 테스트 시작 ====");
+
+        // 컬럼이 같은 두 엔티티를 같은 방식(청크마다 persist 후 flush)으로 저장하고, id 생성 방식만 다르게 둔다
+        try {
+            // 워밍업
+            save(CHUNK_SIZE, i -> new IdentityRow("warmup" + i));
+            save(CHUNK_SIZE, i -> new TimeOrderedRow("warmup" + i));
+
+            // 기존 방식: IDENTITY 는 id 를 받으려고 persist 마다 insert 를 바로 실행하므로 배치가 꺼진다
+            long identityTime = save(TOTAL_ROWS, i -> new IdentityRow("row" + i));
+
+            // 개선 방식: id 를 미리 만들어 hibernate.jdbc.batch_size 단위로 묶어 보낸다
+            List<TimeOrderedRow> rows = new ArrayList<>();
+            long timeOrderedTime = save(TOTAL_ROWS, i -> {
+                TimeOrderedRow row = new TimeOrderedRow("row" + i);
+                rows.add(row);
+                return row;
+            });
+
+            log.info("IDENTITY: {}ms, 약 {} 건/초", identityTime, TOTAL_ROWS * 1000L / Math.max(identityTime, 1));
+            log.info("시간순 id: {}ms, 약 {} 건/초", timeOrderedTime, TOTAL_ROWS * 1000L / Math.max(timeOrderedTime, 1));
+
+            // id 가 생성 순서대로 증가해야 ORDER BY id 결과가 저장 순서와 같다
+            for (int i = 1; i < rows.size(); i++) {
+                assertTrue(rows.get(i).getId() > rows.get(i - 1).getId());
+            }
+        } finally {
+            // ddl-auto 로 만들어진 테이블이 개발 DB 에 남지 않도록 지운다
+            jdbcTemplate.execute("DROP TABLE IF EXISTS benchmark_identity_rows");
+            jdbcTemplate.execute("DROP TABLE IF EXISTS benchmark_time_ordered_rows");
+        }
+
+        log.info("==== 종료 ====");
+    }
+
+    private long save(int count, IntFunction<Object> factory) {
+        long start = System.currentTimeMillis();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (int i = 0; i < count; i++) {
+                em.persist(factory.apply(i));
+                if ((i + 1) % CHUNK_SIZE == 0) {
+                    em.flush();
+                    em.clear();
+                }
+            }
+        });
+        return System.currentTimeMillis() - start;
+    }
+}
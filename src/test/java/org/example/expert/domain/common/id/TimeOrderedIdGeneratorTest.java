@@ -0,0 +1,87 @@
+package org.example.expert.domain.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeOrderedIdGeneratorTest {
+
+    private static final long NOW = TimeOrderedIdGenerator.EPOCH + 1_000_000L;
+
+    @Test
+    void 같은_밀리초에_순번을_다_쓰면_다음_밀리초로_넘어가며_계속_증가한다() {
+        // given
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(3);
+        Set<Long> ids = new HashSet<>();
+
+        // when
+        long previous = -1;
+        for (int i = 0; i < 1000; i++) {
+            long id = generator.nextId(NOW);
+
+            // then
+            assertTrue(id > previous);
+            assertTrue(ids.add(id));
+            previous = id;
+        }
+        assertTrue(previous < (1L << 53));
+    }
+
+    @Test
+    void 시계가_뒤로_가도_id_는_감소하지_않는다() {
+        // given
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(0);
+        long first = generator.nextId(NOW);
+
+        // when
+        long second = generator.nextId(NOW - 5000);
+
+        // then
+        assertTrue(second > first);
+    }
+
+    @Test
+    void 노드가_다르면_같은_시각에도_id_가_겹치지_않고_시각이_앞서면_항상_작다() {
+        // given
+        TimeOrderedIdGenerator node1 = new TimeOrderedIdGenerator(1);
+        TimeOrderedIdGenerator node2 = new TimeOrderedIdGenerator(2);
+
+        // when
+        long a = node1.nextId(NOW);
+        long b = node2.nextId(NOW);
+        long later = node1.nextId(NOW + 1);
+
+        // then
+        assertNotEquals(a, b);
+        assertTrue(later > b);
+    }
+
+    @Test
+    void 노드_번호가_범위를_벗어나면_예외가_발생한다() {
+        assertThrows(IllegalArgumentException.class, () -> new TimeOrderedIdGenerator(16));
+    }
+
+    @Test
+    void 노드_번호가_설정되지_않으면_예외가_발생한다() {
+        assertThrows(IllegalStateException.class, () -> TimeOrderedIdGenerator.parseNodeId(null));
+        assertThrows(IllegalStateException.class, () -> TimeOrderedIdGenerator.parseNodeId(" "));
+        assertThrows(IllegalStateException.class, () -> TimeOrderedIdGenerator.parseNodeId("${ID_GENERATOR_NODE_ID}"));
+        assertEquals(3L, TimeOrderedIdGenerator.parseNodeId(" 3 "));
+    }
+
+    @Test
+    void 어떤_시각_이후에_만든_id_는_그_시각의_하한_이상이다() {
+        // given
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(15);
+
+        // when
+        long id = generator.nextId(NOW);
+
+        // then - 증분 반영이 되돌아가 읽을 시작점으로 쓸 수 있다
+        assertTrue(id >= TimeOrderedIdGenerator.lowestIdAt(NOW));
+        assertEquals(0L, TimeOrderedIdGenerator.lowestIdAt(TimeOrderedIdGenerator.EPOCH - 1000));
+    }
+}
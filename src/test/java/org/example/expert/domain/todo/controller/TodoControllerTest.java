@@ -3,6 +3,8 @@ package org.example.expert.domain.todo.controller;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.service.TodoDetailService;
+import org.example.expert.domain.todo.service.TodoExportService;
 import org.example.expert.domain.todo.service.TodoService;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
@@ -16,6 +18,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -30,6 +33,12 @@ class TodoControllerTest {
     @MockBean
     private TodoService todoService;
 
+    @MockBean
+    private TodoExportService todoExportService;
+
+    @MockBean
+    private TodoDetailService todoDetailService;
+
     @Test
     void todo_단건_조회에_성공한다() throws Exception {
         // given
@@ -75,4 +84,16 @@ class TodoControllerTest {
                 .andExpect(jsonPath("$.code").value(HttpStatus.BAD_REQUEST.value()))
                 .andExpect(jsonPath("$.message").value("Todo not found"));
     }
+
+    @Test
+    void 커서_조회의_size_가_범위를_벗어나면_400_을_반환한다() throws Exception {
+        // when & then
+        mockMvc.perform(get("/todos").param("cursor", "").param("size", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("size 는 1 이상 100 이하여야 합니다."));
+        mockMvc.perform(get("/todos").param("cursor", "").param("size", "101"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(todoService);
+    }
 }
@@ -0,0 +1,65 @@
+package org.example.expert.domain.todo.index;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TodoTextIndexTest {
+
+    @Test
+    void 적재_전에는_인덱스를_쓰지_않는다() {
+        // given
+        TodoTextIndex index = new TodoTextIndex(1000, 100, new SimpleMeterRegistry());
+        index.add(1L, "회의 준비", "자료 정리");
+
+        // when & then
+        assertNull(index.candidates(TodoTextIndex.Field.TITLE, "회의"));
+    }
+
+    @Test
+    void 한글_부분_문자열을_포함하는_todo만_후보로_돌려준다() {
+        // given
+        TodoTextIndex index = new TodoTextIndex(10000, 100, new SimpleMeterRegistry());
+        index.add(1L, "주간 회의 준비", "발표 자료 정리");
+        index.add(2L, "회식 장소 예약", "강남역 근처");
+        index.add(3L, "Weekly Meeting", "Café 예약");
+        index.markReady();
+
+        // when & then
+        assertArrayEquals(new long[]{1L}, index.candidates(TodoTextIndex.Field.TITLE, "회의"));
+        assertArrayEquals(new long[]{1L, 2L}, index.candidates(TodoTextIndex.Field.TITLE, "회"));
+        assertArrayEquals(new long[]{3L}, index.candidates(TodoTextIndex.Field.TITLE, "MEET"));
+        assertArrayEquals(new long[]{3L}, index.candidates(TodoTextIndex.Field.CONTENTS, "cafe"));
+        assertArrayEquals(new long[0], index.candidates(TodoTextIndex.Field.TITLE, "발표"));
+    }
+
+    @Test
+    void 후보가_상한보다_많으면_인덱스를_쓰지_않는다() {
+        // given - 후보 상한 2개
+        TodoTextIndex index = new TodoTextIndex(10000, 2, new SimpleMeterRegistry());
+        index.add(1L, "회의 준비", "내용");
+        index.add(2L, "회의 정리", "내용");
+        index.add(3L, "회의 공유", "내용");
+        index.add(4L, "보고서", "내용");
+        index.markReady();
+
+        // when & then
+        assertNull(index.candidates(TodoTextIndex.Field.TITLE, "회의"));
+        assertArrayEquals(new long[]{4L}, index.candidates(TodoTextIndex.Field.TITLE, "보고"));
+    }
+
+    @Test
+    void 메모리_상한을_넘으면_비활성화된다() {
+        // given
+        TodoTextIndex index = new TodoTextIndex(10, 100, new SimpleMeterRegistry());
+        index.markReady();
+
+        // when
+        index.add(1L, "아주 긴 제목을 가진 할 일", "내용도 꽤 길다");
+
+        // then
+        assertFalse(index.isReady());
+        assertNull(index.candidates(TodoTextIndex.Field.TITLE, "제목"));
+    }
+}
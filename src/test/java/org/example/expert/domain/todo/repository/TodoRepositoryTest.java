@@ -0,0 +1,69 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QueryDslConfig;
+import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, PersistenceConfig.class})
+class TodoRepositoryTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    void 인덱스에_아직_반영되지_않은_최근_todo_도_검색된다() {
+        // given - 인덱스가 모르는 todo. 후보에는 없지만 indexedBelowId 이상이다
+        User user = em.persist(new User("search@example.com", "password", UserRole.USER, "search"));
+        Todo indexed = em.persist(new Todo("회의 준비", "contents", "Sunny", user));
+        Todo recent = em.persist(new Todo("회의 정리", "contents", "Sunny", user));
+        em.flush();
+        TodoSearchRequest request = new TodoSearchRequest("회의", null, null, null, null);
+
+        // when
+        Page<TodoSearchResponse> result = todoRepository.searchTodos(
+                request, List.of(indexed.getId()), recent.getId(), PageRequest.of(0, 10));
+
+        // then
+        assertEquals(2, result.getTotalElements());
+    }
+
+    @Test
+    void 인덱스가_완전하면_후보_안에서만_찾는다() {
+        // given
+        User user = em.persist(new User("search@example.com", "password", UserRole.USER, "search"));
+        Todo indexed = em.persist(new Todo("회의 준비", "contents", "Sunny", user));
+        em.persist(new Todo("회의 정리", "contents", "Sunny", user));
+        em.flush();
+        TodoSearchRequest request = new TodoSearchRequest("회의", null, null, null, null);
+
+        // when
+        Page<TodoSearchResponse> result = todoRepository.searchTodos(
+                request, List.of(indexed.getId()), null, PageRequest.of(0, 10));
+
+        // then
+        assertEquals(1, result.getTotalElements());
+    }
+}
@@ -0,0 +1,129 @@
+package org.example.expert.domain.todo.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.entity.QComment;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.entity.QManager;
+import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.entity.QTodo;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.service.TodoCountReconciler;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Slf4j
+@SpringBootTest
+class TodoSearchPerformanceTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private JPAQueryFactory jpaQueryFactory;
+
+    @Autowired
+    private TodoCountReconciler todoCountReconciler;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    @Transactional
+    void 담당자와_댓글이_몰린_데이터에서_검색_성능_비교_테스트() {
+        log.info("==== 편중 데이터 검색 성능 비교 테스트 시작 ====");
+
+        // 담당자 50명, 댓글 2000개가 달린 todo 1건과 일반 todo 100건
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            User user = new User("skew" + i + "_" + UUID.randomUUID().toString().substring(0, 8) + "@example.com",
+                    "password123", UserRole.USER, "skew_manager_" + i);
+            em.persist(user);
+            users.add(user);
+        }
+
+        Todo hotTodo = new Todo("hot todo", "contents", "Sunny", users.get(0));
+        em.persist(hotTodo);
+        for (int i = 1; i < users.size(); i++) {
+            em.persist(new Manager(users.get(i), hotTodo));
+        }
+        for (int i = 0; i < 2000; i++) {
+            em.persist(new Comment("comment" + i, users.get(i % users.size()), hotTodo));
+        }
+        for (int i = 0; i < 100; i++) {
+            em.persist(new Todo("normal todo " + i, "contents", "Sunny", users.get(i % users.size())));
+        }
+        em.flush();
+        // 서비스를 거치지 않고 넣은 데이터라 개수 컬럼을 다시 맞춘다
+        todoCountReconciler.reconcileAll();
+        em.clear();
+
+        TodoSearchRequest request = new TodoSearchRequest(null, null, null, "skew_manager", null);
+        PageRequest pageable = PageRequest.of(0, 200);
+
+        // 워밍업
+        searchWithJoin(request, pageable);
+        todoRepository.searchTodos(request, pageable);
+
+        // 기존 방식: managers, comments 를 한 번에 조인한 뒤 countDistinct
+        long start1 = System.currentTimeMillis();
+        List<TodoSearchResponse> joined = searchWithJoin(request, pageable);
+        long joinTime = System.currentTimeMillis() - start1;
+
+        // 개선 방식: todos 에 유지된 개수 컬럼을 그대로 조회
+        long start2 = System.currentTimeMillis();
+        Page<TodoSearchResponse> denormalized = todoRepository.searchTodos(request, pageable);
+        long denormalizedTime = System.currentTimeMillis() - start2;
+
+        log.info("조인 후 집계: {}ms, 개수 컬럼 조회: {}ms", joinTime, denormalizedTime);
+
+        // then - 결과는 동일해야 한다
+        assertEquals(joined.size(), denormalized.getContent().size());
+        TodoSearchResponse hot = denormalized.getContent().stream()
+                .filter(response -> response.getTitle().equals("hot todo"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(50L, hot.getManagerCount());
+        assertEquals(2000L, hot.getCommentCount());
+
+        log.info("==== 종료 ====");
+    }
+
+    private List<TodoSearchResponse> searchWithJoin(TodoSearchRequest request, PageRequest pageable) {
+        QTodo qTodo = QTodo.todo;
+        QManager qManager = QManager.manager;
+        QComment qComment = QComment.comment;
+
+        return jpaQueryFactory
+                .select(Projections.constructor(TodoSearchResponse.class,
+                        qTodo.title,
+                        qManager.countDistinct(),
+                        qComment.countDistinct()
+                ))
+                .from(qTodo)
+                .join(qTodo.managers, qManager)
+                .leftJoin(qTodo.comments, qComment)
+                .where(qManager.user.nickname.containsIgnoreCase(request.getManagerNickname()))
+                .groupBy(qTodo.id, qTodo.title)
+                .orderBy(qTodo.createdAt.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+    }
+}
@@ -0,0 +1,133 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.service.ManagerService;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@Slf4j
+@SpringBootTest
+class TodoDetailPerformanceTest {
+
+    private static final int ITERATIONS = 100;
+    // 기존 댓글 API 는 전부 내려주므로 상세 조회 한 페이지에 모두 들어오는 개수로 맞춰 같은 양을 비교한다
+    private static final int COMMENT_COUNT = 100;
+
+    @Autowired
+    private TodoDetailService todoDetailService;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private ManagerService managerService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void 상세_조회_한_번과_세_번_호출의_지연시간_비교_테스트() {
+        log.info("==== todo 상세 조회 지연시간 비교 테스트 시작 ====");
+
+        // 하위 조회가 다른 스레드의 커넥션에서 실행되므로 데이터를 커밋해 둔다
+        String prefix = "detail_" + UUID.randomUUID().toString().substring(0, 8);
+        Long todoId = new TransactionTemplate(transactionManager).execute(status -> {
+            User owner = new User(prefix + "_owner@example.com", "password123", UserRole.USER, prefix + "_owner");
+            em.persist(owner);
+            Todo todo = new Todo("detail todo", "contents", "Sunny", owner);
+            em.persist(todo);
+            for (int i = 0; i < 20; i++) {
+                User manager = new User(prefix + "_" + i + "@example.com", "password123", UserRole.USER, prefix + "_" + i);
+                em.persist(manager);
+                em.persist(new Manager(manager, todo));
+                for (int j = 0; j < COMMENT_COUNT / 20; j++) {
+                    em.persist(new Comment("comment" + j, manager, todo));
+                }
+            }
+            em.flush();
+            todoRepository.addCommentCount(todo.getId(), COMMENT_COUNT);
+            return todo.getId();
+        });
+
+        try {
+            // 워밍업
+            for (int i = 0; i < 10; i++) {
+                callThreeTimes(todoId);
+                todoDetailService.getTodoDetail(todoId, COMMENT_COUNT);
+            }
+
+            // 기존 방식: GET /todos/{id}, /managers, /comments 를 차례로 호출
+            long start1 = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                callThreeTimes(todoId);
+            }
+            double threeCallMs = (System.nanoTime() - start1) / 1_000_000.0 / ITERATIONS;
+
+            // 개선 방식: GET /todos/{id}/full 한 번, 담당자와 댓글은 병렬 조회
+            long start2 = System.nanoTime();
+            TodoDetailResponse detail = null;
+            for (int i = 0; i < ITERATIONS; i++) {
+                detail = todoDetailService.getTodoDetail(todoId, COMMENT_COUNT);
+            }
+            double detailMs = (System.nanoTime() - start2) / 1_000_000.0 / ITERATIONS;
+
+            log.info("세 번 호출 평균: {}ms, 상세 조회 한 번 평균: {}ms", String.format("%.2f", threeCallMs), String.format("%.2f", detailMs));
+
+            // then - 두 방식 모두 같은 담당자와 댓글 전부를 받는다
+            assertEquals(21, detail.getManagers().size());
+            assertEquals(COMMENT_COUNT, detail.getComments().size());
+            assertEquals((long) COMMENT_COUNT, detail.getCommentCount());
+            assertFalse(detail.isHasMoreComments());
+        } finally {
+            jdbcTemplate.update("DELETE FROM comments WHERE todo_id = ?", todoId);
+            jdbcTemplate.update("DELETE FROM managers WHERE todo_id = ?", todoId);
+            jdbcTemplate.update("DELETE FROM todos WHERE id = ?", todoId);
+            jdbcTemplate.update("DELETE FROM users WHERE email LIKE ?", prefix + "\\_%");
+        }
+
+        log.info("==== 종료 ====");
+    }
+
+    private void callThreeTimes(long todoId) {
+        TodoResponse todo = todoService.getTodo(todoId);
+        List<ManagerResponse> managers = managerService.getManagers(todoId);
+        List<CommentResponse> comments = commentService.getComments(todoId);
+        assertEquals(todoId, todo.getId());
+        assertEquals(21, managers.size());
+        assertEquals(COMMENT_COUNT, comments.size());
+    }
+}
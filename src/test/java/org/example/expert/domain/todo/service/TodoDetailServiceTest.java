@@ -0,0 +1,67 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class TodoDetailServiceTest {
+
+    private final TodoRepository todoRepository = mock(TodoRepository.class);
+    private final ManagerRepository managerRepository = mock(ManagerRepository.class);
+    private final CommentRepository commentRepository = mock(CommentRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private TodoDetailService todoDetailService;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        todoDetailService.shutdown();
+    }
+
+    @Test
+    void 하위_조회가_제한_시간을_넘기면_503_예외로_실패한다() {
+        // given - 담당자 조회가 끝나지 않는다
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        todoDetailService = new TodoDetailService(todoRepository, managerRepository, commentRepository,
+                transactionManager, 2, 4, 100, 100, meterRegistry);
+
+        User owner = User.fromAuthUser(new AuthUser(1L, "owner@example.com", UserRole.USER, "owner"));
+        Todo todo = new Todo("title", "contents", "Sunny", owner);
+        ReflectionTestUtils.setField(todo, "id", 1L);
+        given(todoRepository.findByIdWithUser(1L)).willReturn(Optional.of(todo));
+        given(managerRepository.findByTodoIdWithUser(anyLong())).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+        given(commentRepository.findPageByTodoIdWithUser(anyLong(), any())).willReturn(List.of());
+
+        // when & then
+        assertThrows(ServiceUnavailableException.class, () -> todoDetailService.getTodoDetail(1L, 10));
+        assertEquals(1.0, meterRegistry.get("todo.detail.timeout").counter().count());
+    }
+}
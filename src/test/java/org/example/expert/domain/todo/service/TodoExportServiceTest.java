@@ -0,0 +1,131 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+class TodoExportServiceTest {
+
+    private final TodoRepository todoRepository = mock(TodoRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final TodoSearchRequest searchRequest = new TodoSearchRequest();
+
+    @BeforeEach
+    void setUp() {
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+    }
+
+    @Test
+    void CSV_는_헤더를_쓰고_쉼표_따옴표_줄바꿈이_있는_값을_감싼다() throws IOException {
+        // given
+        TodoExportService exportService = newExportService(2);
+        givenTodos(
+                todo(1L, "plain", "contents", null),
+                todo(2L, "a,b", "say \"hi\"", "line1\nline2")
+        );
+
+        // when
+        String body = run(exportService.export(searchRequest, TodoExportService.CSV));
+
+        // then
+        String createdAt = LocalDateTime.of(2024, 1, 2, 3, 4, 5).toString();
+        assertEquals(
+                "id,title,contents,weather,userId,userEmail,createdAt,modifiedAt\n"
+                        + "1,plain,contents,,7,owner@example.com," + createdAt + "," + createdAt + "\n"
+                        + "2,\"a,b\",\"say \"\"hi\"\"\",\"line1\nline2\",7,owner@example.com," + createdAt + "," + createdAt + "\n",
+                body);
+    }
+
+    @Test
+    void NDJSON_은_한_줄에_todo_하나씩_쓴다() throws IOException {
+        // given
+        TodoExportService exportService = newExportService(2);
+        givenTodos(todo(1L, "first", "contents", "Sunny"), todo(2L, "두 번째\n제목", "contents", null));
+
+        // when
+        String body = run(exportService.export(searchRequest, TodoExportService.NDJSON));
+
+        // then - 값 안의 줄바꿈은 이스케이프되므로 줄 수가 곧 건수다
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"id\":1,"));
+        assertTrue(lines[0].contains("\"title\":\"first\""));
+        assertTrue(lines[0].contains("\"createdAt\":\"2024-01-02T03:04:05\""));
+        assertTrue(lines[1].contains("\"title\":\"두 번째\\n제목\""));
+        assertTrue(body.endsWith("\n"));
+    }
+
+    @Test
+    void 동시_내보내기가_한도를_넘으면_429_로_거절하고_끝난_자리는_다시_쓴다() throws IOException {
+        // given - 한도 1개를 이미 쓰고 있다
+        TodoExportService exportService = newExportService(1);
+        givenTodos(todo(1L, "title", "contents", null));
+        StreamingResponseBody running = exportService.export(searchRequest, TodoExportService.NDJSON);
+
+        // when & then
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> exportService.export(searchRequest, TodoExportService.NDJSON));
+        assertEquals(5L, exception.getRetryAfterSeconds());
+
+        // when - 앞선 내보내기가 끝나면 자리가 반납된다
+        run(running);
+
+        // then
+        assertNotNull(exportService.export(searchRequest, TodoExportService.CSV));
+    }
+
+    private TodoExportService newExportService(int maxConcurrent) {
+        return new TodoExportService(todoRepository, Jackson2ObjectMapperBuilder.json().build(),
+                transactionManager, 1000, maxConcurrent);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenTodos(Todo... todos) {
+        willAnswer(invocation -> {
+            Consumer<Todo> consumer = invocation.getArgument(2);
+            List.of(todos).forEach(consumer);
+            return null;
+        }).given(todoRepository).scrollTodos(any(), anyInt(), any(Consumer.class));
+    }
+
+    private Todo todo(Long id, String title, String contents, String weather) {
+        User owner = User.fromAuthUser(new AuthUser(7L, "owner@example.com", UserRole.USER, "owner"));
+        Todo todo = new Todo(title, contents, weather, owner);
+        LocalDateTime timestamp = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+        ReflectionTestUtils.setField(todo, "id", id);
+        ReflectionTestUtils.setField(todo, "createdAt", timestamp);
+        ReflectionTestUtils.setField(todo, "modifiedAt", timestamp);
+        return todo;
+    }
+
+    private String run(StreamingResponseBody body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
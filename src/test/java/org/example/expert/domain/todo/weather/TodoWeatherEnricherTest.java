@@ -0,0 +1,150 @@
+package org.example.expert.domain.todo.weather;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.client.WeatherProvider;
+import org.example.expert.domain.todo.entity.TodoWeatherFailure;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoWeatherFailureRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class TodoWeatherEnricherTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 1, 2);
+    private static final LocalDate YESTERDAY = LocalDate.of(2025, 1, 1);
+
+    private final TodoRepository todoRepository = mock(TodoRepository.class);
+    private final TodoWeatherFailureRepository failureRepository = mock(TodoWeatherFailureRepository.class);
+    private final WeatherProvider weatherProvider = mock(WeatherProvider.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+    }
+
+    @Test
+    void 같은_날씨의_todo_는_UPDATE_한_번으로_반영한다() {
+        // given
+        TodoWeatherEnricher enricher = newEnricher(10, 5, 1000L);
+        given(weatherProvider.getWeather(TODAY)).willReturn("Sunny");
+        given(weatherProvider.getWeather(YESTERDAY)).willReturn("Rainy");
+        enricher.enqueueAfterCommit(1L, TODAY);
+        enricher.enqueueAfterCommit(2L, TODAY);
+        enricher.enqueueAfterCommit(3L, YESTERDAY);
+
+        // when
+        enricher.enrich();
+
+        // then
+        verify(todoRepository).updatePendingWeather(argThat(ids -> idsEqual(ids, 1L, 2L)), eq("Sunny"));
+        verify(todoRepository).updatePendingWeather(argThat(ids -> idsEqual(ids, 3L)), eq("Rainy"));
+        verify(todoRepository, times(2)).updatePendingWeather(anyCollection(), anyString());
+        assertEquals(3.0, meterRegistry.get("todo.weather.enrichment.enriched").counter().count());
+    }
+
+    @Test
+    void 실패하면_백오프_시간이_지나기_전에는_다시_시도하지_않는다() {
+        // given
+        TodoWeatherEnricher enricher = newEnricher(10, 5, 60_000L);
+        given(weatherProvider.getWeather(TODAY)).willThrow(new IllegalStateException("timeout"));
+        enricher.enqueueAfterCommit(1L, TODAY);
+
+        // when
+        enricher.enrich();
+        enricher.enrich();
+
+        // then
+        verify(weatherProvider, times(1)).getWeather(TODAY);
+        assertEquals(1.0, meterRegistry.get("todo.weather.enrichment.retried").counter().count());
+    }
+
+    @Test
+    void 일시적으로_실패한_todo_는_다시_시도해_반영한다() {
+        // given - 백오프 0 이면 바로 다시 꺼낼 수 있다
+        TodoWeatherEnricher enricher = newEnricher(10, 5, 0L);
+        given(weatherProvider.getWeather(TODAY))
+                .willThrow(new IllegalStateException("timeout"))
+                .willReturn("Sunny");
+        enricher.enqueueAfterCommit(1L, TODAY);
+
+        // when
+        enricher.enrich();
+        enricher.enrich();
+
+        // then
+        verify(todoRepository).updatePendingWeather(argThat(ids -> idsEqual(ids, 1L)), eq("Sunny"));
+        verify(failureRepository, never()).save(any());
+    }
+
+    @Test
+    void 최대_시도_횟수를_넘기면_실패_기록을_남기고_더_이상_시도하지_않는다() {
+        // given
+        TodoWeatherEnricher enricher = newEnricher(10, 3, 0L);
+        given(weatherProvider.getWeather(TODAY)).willThrow(new IllegalStateException("timeout"));
+        enricher.enqueueAfterCommit(1L, TODAY);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            enricher.enrich();
+        }
+
+        // then
+        verify(weatherProvider, times(3)).getWeather(TODAY);
+        verify(failureRepository).save(any(TodoWeatherFailure.class));
+        assertEquals(2.0, meterRegistry.get("todo.weather.enrichment.retried").counter().count());
+        assertEquals(1.0, meterRegistry.get("todo.weather.enrichment.dead.letter").counter().count());
+    }
+
+    @Test
+    void 기동_시_날씨가_빈_todo_를_다시_큐에_넣는다() {
+        // given - 청크 크기 2 로 두 번에 나눠 읽는다
+        TodoWeatherEnricher enricher = newEnricher(2, 5, 1000L);
+        LocalDateTime createdAt = TODAY.atTime(9, 0);
+        given(todoRepository.findPendingWeatherRowsAfterId(eq(0L), any(Pageable.class)))
+                .willReturn(List.of(new PendingWeatherRow(1L, createdAt), new PendingWeatherRow(2L, createdAt)));
+        given(todoRepository.findPendingWeatherRowsAfterId(eq(2L), any(Pageable.class)))
+                .willReturn(List.of(new PendingWeatherRow(3L, null)));
+        given(weatherProvider.getWeather(any(LocalDate.class))).willReturn("Sunny");
+
+        // when
+        enricher.recover();
+        enricher.enrich();
+        enricher.enrich();
+
+        // then - 배치 크기만큼 나눠 모두 반영된다
+        verify(todoRepository).updatePendingWeather(argThat(ids -> idsEqual(ids, 1L, 2L)), eq("Sunny"));
+        verify(todoRepository).updatePendingWeather(argThat(ids -> idsEqual(ids, 3L)), eq("Sunny"));
+    }
+
+    private TodoWeatherEnricher newEnricher(int batchSize, int maxAttempts, long backoffMs) {
+        return new TodoWeatherEnricher(todoRepository, failureRepository, weatherProvider, transactionManager,
+                batchSize, maxAttempts, backoffMs, meterRegistry);
+    }
+
+    private static boolean idsEqual(Collection<Long> ids, Long... expected) {
+        return ids != null && ids.size() == expected.length && Set.copyOf(ids).equals(Set.of(expected));
+    }
+}
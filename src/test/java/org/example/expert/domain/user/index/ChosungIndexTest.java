@@ -0,0 +1,63 @@
+package org.example.expert.domain.user.index;
+
+import org.example.expert.domain.user.dto.response.UserSearchResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChosungIndexTest {
+
+    @Test
+    void 완성형_한글은_초성으로_바꾼다() {
+        assertEquals("ㅎㄱㄷ", ChosungIndex.toChosung("홍길동"));
+        assertEquals("ㄲㅁㅇ123", ChosungIndex.toChosung("꿈 많은123"));
+        assertEquals("abcㅎ", ChosungIndex.toChosung("ABC하"));
+    }
+
+    @Test
+    void 초성이나_음절_섞인_검색어로_접두어가_일치하는_사용자를_찾는다() {
+        // given
+        ChosungIndex index = new ChosungIndex(100);
+        index.add(new UserSearchResponse(1L, "a@a.com", "홍길동"));
+        index.add(new UserSearchResponse(2L, "b@b.com", "홍길순"));
+        index.add(new UserSearchResponse(3L, "c@c.com", "한가득"));
+        index.onLoaded();
+        index.add(new UserSearchResponse(4L, "d@d.com", "홍기둥"));
+
+        // when
+        List<Long> ids = index.findByPrefix("ㅎㄱㄷ", 0, 10).stream()
+                .map(UserSearchResponse::getId)
+                .collect(Collectors.toList());
+
+        // then
+        assertEquals(List.of(1L, 3L, 4L), ids);
+        assertEquals(0, index.countByPrefix("ㄱ"));
+    }
+
+    @Test
+    void 검색어의_완성형_음절은_같은_자리의_닉네임_글자와_같아야_한다() {
+        // given
+        ChosungIndex index = new ChosungIndex(100);
+        index.add(new UserSearchResponse(1L, "a@a.com", "홍길동"));
+        index.add(new UserSearchResponse(2L, "b@b.com", "홍길순"));
+        index.add(new UserSearchResponse(3L, "c@c.com", "한가득"));
+        index.onLoaded();
+        index.add(new UserSearchResponse(4L, "d@d.com", "홍기둥"));
+
+        // when
+        List<Long> ids = index.findByPrefix("홍ㄱㄷ", 0, 10).stream()
+                .map(UserSearchResponse::getId)
+                .collect(Collectors.toList());
+
+        // then - 초성만 같은 "한가득" 은 빠지고, offset 도 걸러낸 결과 기준이다
+        assertEquals(List.of(1L, 4L), ids);
+        assertEquals(3, index.countByPrefix("홍ㄱ"));
+        assertEquals(1, index.countByPrefix("홍길ㄷ"));
+        assertEquals(List.of(2L), index.findByPrefix("홍ㄱ", 2, 1).stream()
+                .map(UserSearchResponse::getId)
+                .collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.expert.domain.user.index;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.user.dto.response.UserSearchResponse;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmailBloomFilterTest {
+
+    @Test
+    void 적재_전에는_항상_있다고_판정한다() {
+        // given
+        EmailBloomFilter filter = new EmailBloomFilter(1000, 0.01, new SimpleMeterRegistry());
+
+        // when & then
+        assertTrue(filter.mightContain("nobody@example.com"));
+    }
+
+    @Test
+    void 추가한_이메일은_대소문자와_관계없이_항상_있다고_판정한다() {
+        // given
+        EmailBloomFilter filter = new EmailBloomFilter(10000, 0.01, new SimpleMeterRegistry());
+        for (int i = 0; i < 10000; i++) {
+            filter.add(new UserSearchResponse((long) i, "user" + i + "@example.com", "nick" + i));
+        }
+        filter.onLoaded();
+
+        // when & then
+        for (int i = 0; i < 10000; i++) {
+            assertTrue(filter.mightContain("user" + i + "@example.com"));
+        }
+        assertTrue(filter.mightContain("USER1@Example.com"));
+    }
+
+    @Test
+    void 오탐률은_설정값_근처에_머문다() {
+        // given
+        EmailBloomFilter filter = new EmailBloomFilter(10000, 0.01, new SimpleMeterRegistry());
+        for (int i = 0; i < 10000; i++) {
+            filter.add(new UserSearchResponse((long) i, "user" + i + "@example.com", "nick" + i));
+        }
+        filter.onLoaded();
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (filter.mightContain("other" + i + "@example.com")) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertTrue(falsePositives < 300, "오탐 " + falsePositives + "건");
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.expert.domain.user.index;
+
+import org.example.expert.domain.user.dto.response.UserSearchResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NicknameBkTreeTest {
+
+    @Test
+    void 편집_거리_이내의_닉네임을_거리와_id_순으로_찾는다() {
+        // given
+        NicknameBkTree tree = new NicknameBkTree();
+        tree.add(new UserSearchResponse(1L, "a@a.com", "sparta"));
+        tree.add(new UserSearchResponse(2L, "b@b.com", "spartan"));
+        tree.add(new UserSearchResponse(3L, "c@c.com", "Sparta"));
+        tree.add(new UserSearchResponse(4L, "d@d.com", "spring"));
+        tree.add(new UserSearchResponse(5L, "e@e.com", "sprta"));
+        tree.add(new UserSearchResponse(5L, "e@e.com", "sprta"));
+        tree.onLoaded();
+
+        // when
+        List<Long> ids = tree.search("sparta", 2).stream()
+                .map(match -> match.getUser().getId())
+                .collect(Collectors.toList());
+
+        // then
+        assertEquals(List.of(1L, 3L, 2L, 5L), ids);
+        assertTrue(tree.search("xxxxxx", 2).isEmpty());
+    }
+
+    @Test
+    void limit_개를_모으면_더_가까운_결과만_남기고_멈춘다() {
+        // given
+        NicknameBkTree tree = new NicknameBkTree();
+        tree.add(new UserSearchResponse(1L, "a@a.com", "sparta"));
+        tree.add(new UserSearchResponse(2L, "b@b.com", "spartan"));
+        tree.add(new UserSearchResponse(3L, "c@c.com", "Sparta"));
+        tree.add(new UserSearchResponse(4L, "d@d.com", "spring"));
+        tree.add(new UserSearchResponse(5L, "e@e.com", "sprta"));
+        tree.onLoaded();
+
+        // when
+        List<Long> ids = tree.search("sparta", 2, 3).stream()
+                .map(match -> match.getUser().getId())
+                .collect(Collectors.toList());
+
+        // then - 전체 결과의 앞 3건과 같다
+        assertEquals(List.of(1L, 3L, 2L), ids);
+    }
+
+    @Test
+    void 레벤슈타인_거리를_계산한다() {
+        assertEquals(3, NicknameBkTree.distance("kitten", "sitting", new int[8], new int[8]));
+        assertEquals(0, NicknameBkTree.distance("홍길동", "홍길동", new int[4], new int[4]));
+        assertEquals(1, NicknameBkTree.distance("홍길동", "홍길순", new int[4], new int[4]));
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.expert.domain.user.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortedKeyIndexTest {
+
+    @Test
+    void 접두어로_시작하는_항목을_키와_id_순서로_돌려준다() {
+        // given
+        SortedKeyIndex<String> index = new SortedKeyIndex<>(100);
+        index.add("kim", 3L, "Kim");
+        index.add("lee", 1L, "Lee");
+        index.add("kimchi", 2L, "kimchi");
+        index.add("kim", 1L, "KIM");
+        index.add("kim", 3L, "Kim");
+        index.build();
+
+        // when
+        List<SortedKeyIndex.Match<String>> matches = index.findByPrefix("kim", 0, 10);
+
+        // then
+        assertEquals(List.of(1L, 3L, 2L), ids(matches));
+        assertEquals(3, index.countByPrefix("kim"));
+        assertEquals(List.of(3L, 2L), ids(index.findByPrefix("kim", 1, 10)));
+    }
+
+    @Test
+    void 적재_이후_추가된_항목은_압축_전후_모두_조회된다() {
+        // given
+        SortedKeyIndex<String> index = new SortedKeyIndex<>(3);
+        for (long id = 1; id <= 1000; id++) {
+            index.add("user" + id, id, "user" + id);
+        }
+        index.build();
+
+        // when
+        index.add("user10x", 2000L, "user10x");
+        List<Long> beforeCompact = ids(index.findByPrefix("user10", 0, 100));
+        index.add("user10y", 2001L, "user10y");
+        index.add("user10z", 2002L, "user10z");
+        List<Long> afterCompact = ids(index.findByPrefix("user10", 0, 100));
+
+        // then
+        assertTrue(beforeCompact.contains(2000L));
+        assertEquals(List.of(10L, 100L, 1000L, 101L), afterCompact.subList(0, 4));
+        assertTrue(afterCompact.containsAll(List.of(2000L, 2001L, 2002L)));
+        assertEquals(afterCompact.size(), index.countByPrefix("user10"));
+    }
+
+    private List<Long> ids(List<SortedKeyIndex.Match<String>> matches) {
+        return matches.stream().map(SortedKeyIndex.Match::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.expert.domain.user.index;
+
+import org.example.expert.domain.common.id.TimeOrderedIdGenerator;
+import org.example.expert.domain.user.dto.response.UserSearchResponse;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class UserIndexLoaderTest {
+
+    private final List<UserSearchResponse> table = new ArrayList<>();
+    private final List<Long> indexed = new ArrayList<>();
+
+    @Test
+    void 늦게_커밋되어_lastSeenId_보다_작은_사용자도_반영한다() {
+        // given - id 를 먼저 받은 사용자(late)가 뒤의 사용자(early)보다 늦게 커밋된다
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(1);
+        long lateId = generator.nextId();
+        long earlyId = generator.nextId();
+
+        UserIndexLoader loader = newLoader();
+        table.add(new UserSearchResponse(earlyId, "early@example.com", "early"));
+        loader.loadAll();
+
+        // when - 다음 반영 전에 작은 id 가 커밋된다
+        table.add(new UserSearchResponse(lateId, "late@example.com", "late"));
+        loader.refresh();
+
+        // then
+        assertEquals(1, indexed.stream().filter(id -> id == lateId).count());
+    }
+
+    private UserIndexLoader newLoader() {
+        UserRepository userRepository = mock(UserRepository.class);
+        given(userRepository.findSearchRowsAfterId(anyLong(), any(Pageable.class))).willAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            Pageable pageable = invocation.getArgument(1);
+            return table.stream()
+                    .filter(row -> row.getId() > afterId)
+                    .sorted(Comparator.comparing(UserSearchResponse::getId))
+                    .limit(pageable.getPageSize())
+                    .toList();
+        });
+
+        UserIndex userIndex = mock(UserIndex.class);
+        doAnswer(invocation -> {
+            indexed.add(((UserSearchResponse) invocation.getArgument(0)).getId());
+            return null;
+        }).when(userIndex).add(any());
+
+        UserIndexLoader loader = new UserIndexLoader(userRepository, List.of(userIndex));
+        ReflectionTestUtils.setField(loader, "chunkSize", 100);
+        ReflectionTestUtils.setField(loader, "overlapMs", 60_000L);
+        return loader;
+    }
+}
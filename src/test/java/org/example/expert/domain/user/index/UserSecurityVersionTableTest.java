@@ -0,0 +1,56 @@
+package org.example.expert.domain.user.index;
+
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class UserSecurityVersionTableTest {
+
+    private final UserSecurityVersionTable table = new UserSecurityVersionTable(mock(UserRepository.class));
+
+    @Test
+    void 변경_이력이_없는_사용자는_버전_0_으로_본다() {
+        // when & then
+        assertEquals(0L, table.currentVersion(1L));
+        assertFalse(table.isStale(1L, 0L));
+    }
+
+    @Test
+    void 현재_버전보다_낮은_토큰만_만료로_판정한다() {
+        // given - 트랜잭션 밖에서는 바로 반영된다
+        table.updateAfterCommit(1L, 2L);
+
+        // when & then
+        assertTrue(table.isStale(1L, 1L));
+        assertFalse(table.isStale(1L, 2L));
+        assertFalse(table.isStale(2L, 0L));
+    }
+
+    @Test
+    void 늦게_도착한_낮은_버전으로_되돌아가지_않는다() {
+        // given
+        table.updateAfterCommit(1L, 3L);
+
+        // when - 동기화가 이전 값을 다시 읽은 경우
+        table.updateAfterCommit(1L, 2L);
+
+        // then
+        assertEquals(3L, table.currentVersion(1L));
+    }
+
+    @Test
+    void 테이블이_커져도_모든_사용자의_버전을_유지한다() {
+        // given - 초기 크기(16)를 여러 번 넘겨 다시 만든다
+        for (long userId = 1; userId <= 1000; userId++) {
+            table.updateAfterCommit(userId, userId);
+        }
+
+        // when & then
+        for (long userId = 1; userId <= 1000; userId++) {
+            assertEquals(userId, table.currentVersion(userId));
+        }
+        assertEquals(0L, table.currentVersion(1001L));
+    }
+}
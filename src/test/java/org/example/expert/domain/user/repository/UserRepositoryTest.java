@@ -0,0 +1,50 @@
+package org.example.expert.domain.user.repository;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QueryDslConfig;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, PersistenceConfig.class})
+class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    void 재해시는_그_사이_비밀번호가_바뀌지_않았을_때만_반영된다() {
+        // given - 로그인 시점에 읽은 해시가 old
+        User user = em.persistFlushFind(new User("rehash@example.com", "old", UserRole.USER, "rehash"));
+        Long userId = user.getId();
+
+        em.clear();
+
+        // when - 재해시보다 먼저 비밀번호 변경이 반영됐다
+        userRepository.findByIdForUpdate(userId).orElseThrow().changePassword("changed");
+        em.flush();
+        em.clear();
+        boolean staleRehash = userRepository.findByIdForUpdate(userId).orElseThrow().rehashPassword("old", "rehashed");
+        em.flush();
+        em.clear();
+
+        // then - 늦게 도착한 재해시는 변경된 비밀번호를 덮어쓰지 않는다
+        assertFalse(staleRehash);
+        assertEquals("changed", em.find(User.class, userId).getPassword());
+    }
+}
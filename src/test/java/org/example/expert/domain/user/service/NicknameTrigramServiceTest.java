@@ -0,0 +1,132 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QueryDslConfig;
+import org.example.expert.domain.user.entity.NicknameTrigram;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.NicknameTrigramRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 백필은 자체 트랜잭션과 JDBC 배치로 쓰므로 테스트 트랜잭션 없이 실제로 커밋한다
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, PersistenceConfig.class, NicknameTrigramService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NicknameTrigramServiceTest {
+
+    @Autowired
+    private NicknameTrigramService nicknameTrigramService;
+
+    @Autowired
+    private NicknameTrigramRepository nicknameTrigramRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        nicknameTrigramRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 한글과_섞인_문자열에서_소문자_trigram_을_뽑는다() {
+        assertEquals(Set.of("홍길동", "길동전"), NicknameTrigramService.trigrams("홍길동전"));
+        assertEquals(Set.of("ab홍", "b홍c"), NicknameTrigramService.trigrams(" Ab홍C "));
+        // 보충 문자는 한 글자로 센다
+        assertEquals(Set.of("a😀b", "😀bc"), NicknameTrigramService.trigrams("a😀bc"));
+        assertTrue(NicknameTrigramService.trigrams("홍길").isEmpty());
+        assertTrue(NicknameTrigramService.trigrams(null).isEmpty());
+    }
+
+    @Test
+    void 백필은_청크_단위로_모든_사용자를_색인하고_완료_표시를_남긴다() {
+        // given - 청크 2건, 사용자 5명 중 한 명은 닉네임이 두 글자
+        ReflectionTestUtils.setField(nicknameTrigramService, "chunkSize", 2);
+        List<User> users = saveUsers("홍길동", "홍길순", "김철수", "spring_user", "홍길");
+
+        // when
+        nicknameTrigramService.backfill();
+
+        // then
+        assertTrue(nicknameTrigramService.isReady());
+        for (User user : users) {
+            assertEquals(NicknameTrigramService.trigrams(user.getNickname()).size(), trigramCount(user.getId()));
+        }
+        assertTrue(nicknameTrigramRepository.existsById(new NicknameTrigram.Key("", 0L)));
+    }
+
+    @Test
+    void 백필_완료_표시가_있으면_새_노드는_전체_조회_없이_바로_준비된다() {
+        // given - 다른 노드가 백필을 마쳤다
+        saveUsers("홍길동");
+        nicknameTrigramService.backfill();
+        NicknameTrigramService freshNode = new NicknameTrigramService(
+                nicknameTrigramRepository, userRepository, jdbcTemplate, transactionTemplate);
+        assertFalse(freshNode.isReady());
+
+        // when
+        freshNode.checkBackfilled();
+
+        // then
+        assertTrue(freshNode.isReady());
+    }
+
+    @Test
+    void trigram_검색은_LIKE_검색과_같은_사용자를_돌려준다() {
+        // given
+        saveUsers("홍길동", "홍길동전", "아무개홍길동", "홍길순", "길동이", "spring", "springboot", "boot_spring", "sprint");
+        nicknameTrigramService.backfill();
+
+        // when & then - 검색 결과에 표시 행이 섞이지 않는다
+        for (String query : List.of("홍길동", "spring", "rin", "홍길동전", "없는닉네임")) {
+            Set<String> trigrams = NicknameTrigramService.trigrams(query);
+            List<Long> byTrigram = userRepository.findByNicknameTrigrams(query, trigrams, trigrams.size(), PageRequest.of(0, 100))
+                    .map(User::getId).getContent();
+            List<Long> byLike = userRepository.findByNicknameLike(query, PageRequest.of(0, 100))
+                    .map(User::getId).getContent();
+            assertEquals(byLike, byTrigram, query);
+        }
+    }
+
+    private List<User> saveUsers(String... nicknames) {
+        return Arrays.stream(nicknames)
+                .map(nickname -> userRepository.save(
+                        new User(nickname + "@example.com", "password", UserRole.USER, nickname)))
+                .collect(Collectors.toList());
+    }
+
+    private long trigramCount(Long userId) {
+        return nicknameTrigramRepository.findAll().stream()
+                .filter(trigram -> trigram.getUserId().equals(userId))
+                .count();
+    }
+}
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -354,6 +355,47 @@ class UserDataProcessingTest {
         log.info("=== 최종 성능 테스트 완료 ===");
     }
 
+    @Test
+    void 오타_허용_검색_성능_비교_테스트() {
+        log.info("==== 오타 허용 검색 성능 비교 테스트 시작 ====");
+
+        long totalUsers = userRepository.count();
+        log.info("전체 사용자 수: {}", totalUsers);
+
+        if (totalUsers < 100000) {
+            log.warn("충분한 데이터가 없습니다.");
+            return;
+        }
+
+        List<User> testUsers = userRepository.findAll(PageRequest.of(0, 5)).getContent();
+
+        long[] fuzzyTimes = new long[testUsers.size()];
+        long[] likeTimes = new long[testUsers.size()];
+
+        for (int i = 0; i < testUsers.size(); i++) {
+            String nickname = testUsers.get(i).getNickname();
+            // 마지막 글자를 바꿔 오타를 만든다
+            String typo = nickname.substring(0, nickname.length() - 1) + (nickname.endsWith("x") ? "y" : "x");
+
+            long start = System.currentTimeMillis();
+            Page<UserSearchResponse> fuzzyResult = userSearchService.searchUsersByNicknameFuzzy(typo, 2, 1, 10);
+            fuzzyTimes[i] = System.currentTimeMillis() - start;
+
+            // 사용자가 오타를 지워가며 다시 찾는 LIKE 검색
+            start = System.currentTimeMillis();
+            Page<UserSearchResponse> likeResult = userSearchService.searchUsersByNicknameLike(typo.substring(0, typo.length() - 1), 1, 10);
+            likeTimes[i] = System.currentTimeMillis() - start;
+
+            log.info("검색어: {}, 오타 허용 검색: {}ms ({}건), LIKE 검색: {}ms ({}건)",
+                    typo, fuzzyTimes[i], fuzzyResult.getTotalElements(), likeTimes[i], likeResult.getTotalElements());
+        }
+
+        printPerformanceStats("오타 허용 검색 (BK-tree)", fuzzyTimes);
+        printPerformanceStats("LIKE 검색 (풀스캔)", likeTimes);
+
+        log.info("=== 오타 허용 검색 성능 비교 테스트 완료 ===");
+    }
+
     @Test
     void 동시_접속자_성능_테스트() {
         log.info("=== 동시 접속자 성능 테스트 시작 ===");
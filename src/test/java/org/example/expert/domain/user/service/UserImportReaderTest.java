@@ -0,0 +1,63 @@
+package org.example.expert.domain.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.request.UserImportRow;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void CSV_는_헤더_순서대로_읽고_따옴표_안의_쉼표를_값으로_본다() throws Exception {
+        // given
+        String csv = "nickname,email,password\n" +
+                "\"kim, \"\"the\"\" dev\",kim@example.com,pw1\n" +
+                "\n" +
+                "lee,lee@example.com,pw2\n";
+        UserImportReader reader = reader(csv, UserImportReader.CSV);
+
+        // when
+        UserImportRow first = reader.next();
+        UserImportRow second = reader.next();
+
+        // then
+        assertEquals("kim, \"the\" dev", first.getNickname());
+        assertEquals("kim@example.com", first.getEmail());
+        assertNull(first.getUserRole());
+        assertEquals("lee", second.getNickname());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void 형식이_깨진_행은_값이_없는_행으로_돌려준다() throws Exception {
+        // given
+        String ndjson = "{\"email\":\"a@example.com\",\"password\":\"pw\",\"nickname\":\"a\",\"userRole\":\"ADMIN\"}\n" +
+                "{broken\n";
+        UserImportReader reader = reader(ndjson, UserImportReader.NDJSON);
+
+        // when
+        UserImportRow valid = reader.next();
+        UserImportRow broken = reader.next();
+
+        // then
+        assertEquals("ADMIN", valid.getUserRole());
+        assertNull(broken.getEmail());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void CSV_헤더에_필수_컬럼이_없으면_예외가_발생한다() {
+        assertThrows(InvalidRequestException.class, () -> reader("email,password\n", UserImportReader.CSV));
+    }
+
+    private UserImportReader reader(String body, String format) throws Exception {
+        return new UserImportReader(new BufferedReader(new StringReader(body)), format, objectMapper);
+    }
+}
@@ -0,0 +1,235 @@
+package org.example.expert.domain.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.PasswordHashExecutor;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QueryDslConfig;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.example.expert.domain.user.dto.response.UserImportResponse;
+import org.example.expert.domain.user.dto.response.UserSearchResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserImportStatus;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.index.UserIndexLoader;
+import org.example.expert.domain.user.repository.NicknameTrigramRepository;
+import org.example.expert.domain.user.repository.UserImportJobRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// 가져오기는 전용 스레드에서 청크마다 자체 트랜잭션으로 커밋하므로 테스트 트랜잭션 없이 실제로 커밋하고 완료를 기다린다
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, PersistenceConfig.class, NicknameTrigramService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserImportServiceTest {
+
+    private static final String CSV = "text/csv";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserImportJobRepository userImportJobRepository;
+
+    @Autowired
+    private NicknameTrigramRepository nicknameTrigramRepository;
+
+    @Autowired
+    private NicknameTrigramService nicknameTrigramService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final UserIndexLoader userIndexLoader = mock(UserIndexLoader.class);
+    private final List<UserImportService> services = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        services.forEach(UserImportService::shutdown);
+        nicknameTrigramRepository.deleteAllInBatch();
+        userImportJobRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 실패한_작업은_같은_jobId_로_다시_요청하면_커밋된_청크_다음부터_이어서_처리한다() {
+        // given - 청크 2건. 첫 청크를 커밋한 직후 노드가 죽는다
+        UserImportService importService = newImportService(userRepository, 2, 2);
+        willThrow(new IllegalStateException("노드 장애")).willDoNothing()
+                .given(userIndexLoader).register(any(UserSearchResponse.class));
+        String body = csv("a", "b", "c", "d", "e");
+
+        UserImportResponse started = importService.importUsers(body(body), CSV, null);
+        UserImportResponse failed = await(importService, started.getJobId());
+        assertEquals(UserImportStatus.FAILED, failed.getStatus());
+        assertEquals(2, failed.getProcessedRows());
+
+        // when - 같은 본문을 다시 보낸다
+        importService.importUsers(body(body), CSV, started.getJobId());
+        UserImportResponse completed = await(importService, started.getJobId());
+
+        // then - 이미 넣은 두 건은 다시 읽지 않으므로 중복으로 세지 않는다
+        assertEquals(UserImportStatus.COMPLETED, completed.getStatus());
+        assertEquals(5, completed.getProcessedRows());
+        assertEquals(5, completed.getImportedRows());
+        assertEquals(0, completed.getDuplicateRows());
+        assertEquals(5, userRepository.count());
+    }
+
+    @Test
+    void 이미_가입된_이메일과_앞_청크에서_넣은_이메일은_중복으로_건너뛴다() {
+        // given - old 는 이미 가입했고, new1 은 첫 청크와 둘째 청크에 한 번씩 있다
+        userRepository.save(new User("old@example.com", "password", UserRole.USER, "old"));
+        UserImportService importService = newImportService(userRepository, 2, 2);
+        String body = "email,password,nickname\n" +
+                "new1@example.com,pw,new1\n" +
+                "old@example.com,pw,old\n" +
+                "new1@example.com,pw,new1\n" +
+                "invalid-email,pw,bad\n" +
+                "new2@example.com,pw,new2\n";
+
+        // when
+        UserImportResponse started = importService.importUsers(body(body), CSV, null);
+        UserImportResponse completed = await(importService, started.getJobId());
+
+        // then
+        assertEquals(UserImportStatus.COMPLETED, completed.getStatus());
+        assertEquals(5, completed.getProcessedRows());
+        assertEquals(2, completed.getImportedRows());
+        assertEquals(2, completed.getDuplicateRows());
+        assertEquals(1, completed.getInvalidRows());
+        assertEquals(3, userRepository.count());
+        assertEquals(List.of("new1", "new2"), nicknames(List.of("new1@example.com", "new2@example.com")));
+    }
+
+    @Test
+    void 중복_확인_뒤에_다른_곳에서_가입한_이메일은_INSERT_IGNORE_로_빠지고_추가_건수에서도_빠진다() {
+        // given - 중복 확인이 끝난 직후 b 가 회원가입으로 먼저 들어온다
+        UserRepository racingRepository = mock(UserRepository.class, delegatesTo(userRepository));
+        willAnswer(invocation -> {
+            List<String> existing = userRepository.findExistingEmails(invocation.getArgument(0));
+            userRepository.save(new User("b@example.com", "password", UserRole.USER, "signup"));
+            return existing;
+        }).given(racingRepository).findExistingEmails(anyCollection());
+        UserImportService importService = newImportService(racingRepository, 10, 2);
+
+        // when
+        UserImportResponse started = importService.importUsers(body(csv("a", "b")), CSV, null);
+        UserImportResponse completed = await(importService, started.getJobId());
+
+        // then - b 는 가입한 쪽이 남고, 가져오기는 a 한 건만 넣은 것으로 센다
+        assertEquals(UserImportStatus.COMPLETED, completed.getStatus());
+        assertEquals(1, completed.getImportedRows());
+        assertEquals(1, completed.getDuplicateRows());
+        assertEquals(List.of("signup"), nicknames(List.of("b@example.com")));
+        verify(userIndexLoader, times(1)).register(any(UserSearchResponse.class));
+    }
+
+    @Test
+    void 작업_스레드가_모두_쓰이고_있으면_429_로_거절한다() throws InterruptedException {
+        // given - 작업 스레드 1개가 첫 작업을 처리하는 중이다
+        UserImportService importService = newImportService(userRepository, 2, 1);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            running.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).given(userIndexLoader).register(any(UserSearchResponse.class));
+        UserImportResponse first = importService.importUsers(body(csv("a")), CSV, null);
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        // when & then
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> importService.importUsers(body(csv("b")), CSV, null));
+        assertEquals(60L, exception.getRetryAfterSeconds());
+
+        // then - 거절된 작업만 실패로 남고, 앞선 작업은 끝까지 처리된다
+        release.countDown();
+        assertEquals(UserImportStatus.COMPLETED, await(importService, first.getJobId()).getStatus());
+        assertEquals(1, userImportJobRepository.findAll().stream()
+                .filter(job -> job.getStatus() == UserImportStatus.FAILED)
+                .count());
+        assertEquals(1, userRepository.count());
+    }
+
+    private UserImportService newImportService(UserRepository repository, int chunkSize, int jobThreads) {
+        // 엔티티 id 생성기(노드 0)와 같은 밀리초에 같은 id 를 만들지 않도록 다른 노드 번호를 쓴다
+        UserImportService importService = new UserImportService(repository, userImportJobRepository,
+                nicknameTrigramService, userIndexLoader, new PasswordEncoder(mock(PasswordHashExecutor.class)),
+                jdbcTemplate, new ObjectMapper(), transactionManager, "1", chunkSize, 1, jobThreads);
+        services.add(importService);
+        return importService;
+    }
+
+    // 작업이 끝나고 진행 중 목록에서도 빠질 때까지 기다린다
+    private UserImportResponse await(UserImportService importService, Long jobId) {
+        Collection<?> runningJobs = (Collection<?>) ReflectionTestUtils.getField(importService, "runningJobs");
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            UserImportResponse progress = importService.getProgress(jobId);
+            if (progress.getStatus() != UserImportStatus.RUNNING && !runningJobs.contains(jobId)) {
+                return progress;
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return fail("가져오기 작업이 끝나지 않았습니다 - jobId: " + jobId);
+    }
+
+    private List<String> nicknames(List<String> emails) {
+        return emails.stream()
+                .map(email -> jdbcTemplate.queryForObject("SELECT nickname FROM users WHERE email = ?", String.class, email))
+                .toList();
+    }
+
+    private static String csv(String... names) {
+        StringBuilder builder = new StringBuilder("email,password,nickname\n");
+        for (String name : names) {
+            builder.append(name).append("@example.com,pw,").append(name).append('\n');
+        }
+        return builder.toString();
+    }
+
+    private static ByteArrayInputStream body(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
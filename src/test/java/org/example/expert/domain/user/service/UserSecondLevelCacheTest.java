@@ -0,0 +1,129 @@
+package org.example.expert.domain.user.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Slf4j
+@SpringBootTest
+class UserSecondLevelCacheTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserAdminService userAdminService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void 사용자_조회는_캐시에서_처리되고_권한_변경_후에도_최신_값을_읽는다() {
+        // given - 커밋된 사용자. 트랜잭션마다 영속성 컨텍스트가 새로 열리므로 두 번째 조회부터는 2차 캐시를 본다
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        String email = "cache_" + UUID.randomUUID().toString().substring(0, 8) + "@example.com";
+        Long userId = transactionTemplate.execute(status -> {
+            User user = new User(email, "password123", UserRole.USER, "cache_user");
+            em.persist(user);
+            return user.getId();
+        });
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics("user");
+
+        try {
+            statistics.clear();
+
+            // when
+            for (int i = 0; i < 10; i++) {
+                userService.getUser(userId);
+            }
+            log.info("user 영역 - 적중: {}, 실패: {}, 저장: {}", region.getHitCount(), region.getMissCount(), region.getPutCount());
+
+            // then - 첫 조회에서 채운 뒤로는 DB 를 거치지 않는다
+            assertTrue(region.getHitCount() >= 9);
+            assertTrue(region.getMissCount() <= 1);
+
+            // when - 엔티티 수정은 커밋 시 캐시 항목도 함께 갱신한다
+            userAdminService.changeUserRole(userId, new UserRoleChangeRequest("ADMIN"));
+            User cached = transactionTemplate.execute(status -> userRepository.findById(userId).orElseThrow());
+
+            // then
+            assertEquals(UserRole.ADMIN, cached.getUserRole());
+            assertEquals(1L, cached.getSecurityVersion());
+        } finally {
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+            entityManagerFactory.getCache().evict(User.class, userId);
+        }
+    }
+
+    @Test
+    void 비밀번호_재해시는_해당_사용자의_캐시_항목만_갱신한다() {
+        // given - 커밋된 사용자 둘을 한 번씩 읽어 2차 캐시에 올려 둔다
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Long userId = transactionTemplate.execute(status -> {
+            User user = new User("rehash_" + suffix + "@example.com", "old-hash", UserRole.USER, "rehash_user");
+            em.persist(user);
+            return user.getId();
+        });
+        Long otherUserId = transactionTemplate.execute(status -> {
+            User user = new User("other_" + suffix + "@example.com", "other-hash", UserRole.USER, "other_user");
+            em.persist(user);
+            return user.getId();
+        });
+        CacheRegionStatistics region = entityManagerFactory.unwrap(SessionFactory.class).getStatistics()
+                .getDomainDataRegionStatistics("user");
+
+        try {
+            transactionTemplate.execute(status -> userRepository.findById(userId).orElseThrow());
+            transactionTemplate.execute(status -> userRepository.findById(otherUserId).orElseThrow());
+
+            // when
+            boolean updated = userService.rehashPassword(userId, "old-hash", "new-hash");
+            User reloaded = transactionTemplate.execute(status -> userRepository.findById(userId).orElseThrow());
+            log.info("user 영역 - 적중: {}, 실패: {}, 저장: {}", region.getHitCount(), region.getMissCount(), region.getPutCount());
+
+            // then - 다른 사용자의 캐시 항목은 그대로 남고, 재해시한 사용자는 캐시에서 새 값을 읽는다
+            assertTrue(updated);
+            assertEquals("new-hash", reloaded.getPassword());
+            assertEquals(0L, reloaded.getSecurityVersion());
+            assertTrue(entityManagerFactory.getCache().contains(User.class, otherUserId));
+            assertTrue(entityManagerFactory.getCache().contains(User.class, userId));
+        } finally {
+            jdbcTemplate.update("DELETE FROM users WHERE id IN (?, ?)", userId, otherUserId);
+            entityManagerFactory.getCache().evict(User.class, userId);
+            entityManagerFactory.getCache().evict(User.class, otherUserId);
+        }
+    }
+}